@@ -0,0 +1,34 @@
+/*
+Arquivo BenchRecord.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.bench;
+
+import java.io.Serializable;
+
+/**
+ * Registro usado nos benchmarks de RandomAccessObjectFile. O tamanho do 
+ * registro serializado depende apenas do tamanho do array payload, de modo
+ * que todos os registros de um mesmo benchmark tem o mesmo tamanho em bytes.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public class BenchRecord implements Serializable
+{
+    private static final long serialVersionUID = 1L;
+    
+    public long id;
+    public double value;
+    public byte[] payload;
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public BenchRecord(int payloadSize)
+    {
+        payload = new byte[payloadSize];
+        for (int i = 0; i < payloadSize; i++) payload[i] = (byte)i;
+    }//fim do construtor BenchRecord()
+    
+}//fim da classe BenchRecord
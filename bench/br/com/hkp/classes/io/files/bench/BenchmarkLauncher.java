@@ -0,0 +1,79 @@
+/*
+Arquivo BenchmarkLauncher.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.bench;
+
+import java.io.File;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Executa os benchmarks deste pacote uma vez para cada numero de threads 
+ * indicado, gravando os resultados em JSON, um arquivo por numero de threads.
+ * Chamado pelo alvo bench do build.xml. Configurado pelas propriedades de 
+ * sistema:
+ * <ul>
+ * <li>bench.threads: lista de numeros de threads separados por virgula. 
+ * Padrao "1,2,4".</li>
+ * <li>bench.include: expressao regular selecionando os benchmarks. Padrao, 
+ * todos os benchmarks deste pacote.</li>
+ * <li>bench.result.dir: diretorio onde os arquivos jmh-result-tN.json sao
+ * gravados. Padrao, o diretorio corrente.</li>
+ * </ul>
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class BenchmarkLauncher
+{
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private BenchmarkLauncher()
+    {
+    }//fim do construtor BenchmarkLauncher()
+    
+    /**
+     * Executa os benchmarks.
+     * 
+     * @param args Nao utilizado.
+     * 
+     * @throws RunnerException Se algum benchmark falhar.
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static void main(String[] args)
+        throws RunnerException
+    {
+        String threads = System.getProperty("bench.threads", "1,2,4");
+        String include = System.getProperty
+                         (
+                             "bench.include",
+                             BenchmarkLauncher.class.getPackageName() + 
+                             ".*Benchmark.*"
+                         );
+        File dir = new File(System.getProperty("bench.result.dir", "."));
+        dir.mkdirs();
+        
+        for (String t : threads.split(","))
+        {
+            int n = Integer.parseInt(t.trim());
+            File result = new File(dir, "jmh-result-t" + n + ".json");
+            
+            Options opt = new OptionsBuilder()
+                              .include(include)
+                              .threads(n)
+                              .resultFormat(ResultFormatType.JSON)
+                              .result(result.getPath())
+                              .build();
+            
+            new Runner(opt).run();
+        }
+    }//fim de main()
+    
+}//fim da classe BenchmarkLauncher
@@ -0,0 +1,138 @@
+/*
+Arquivo RandomAccessObjectFileBenchmark.java criado a partir de 19 de outubro
+de 2026.
+*/
+package br.com.hkp.classes.io.files.bench;
+
+import br.com.hkp.classes.io.files.RandomAccessObjectFile;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de leitura e gravacao sequencial e aleatoria com 
+ * RandomAccessObjectFile, para varios tamanhos de registro.
+ * <p>
+ * Cada thread do benchmark usa seu proprio arquivo, pois objetos 
+ * RandomAccessObjectFile nao podem ser compartilhados entre threads.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RandomAccessObjectFileBenchmark
+{
+    // Quantos registros o arquivo de cada thread contem.
+    private static final int RECORDS = 4096;
+    
+    /**
+     * O tamanho do array payload de cada registro, em bytes.
+     */
+    @Param({"64", "512", "4096"})
+    public int payloadSize;
+    
+    private File file;
+    private RandomAccessObjectFile rf;
+    private BenchRecord record;
+    private int next;
+    
+    /*[00]----------------------------------------------------------------------
+    *           Cria o arquivo da thread e grava RECORDS registros
+    --------------------------------------------------------------------------*/
+    @Setup(Level.Trial)
+    public void setUp()
+        throws IOException, ClassNotFoundException
+    {
+        record = new BenchRecord(payloadSize);
+        file = File.createTempFile("raof-bench", ".ser");
+        rf = new RandomAccessObjectFile
+                 (
+                     file, RandomAccessObjectFile.objectLength(record)
+                 );
+        rf.open();
+        for (int i = 0; i < RECORDS; i++) rf.writeFile(record, -1);
+        next = 0;
+    }//fim de setUp()
+    
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @TearDown(Level.Trial)
+    public void tearDown()
+        throws IOException
+    {
+        rf.close();
+        file.delete();
+    }//fim de tearDown()
+    
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private int nextSequential()
+    {
+        int pos = next;
+        next = (next + 1) % RECORDS;
+        return pos;
+    }//fim de nextSequential()
+    
+    /*[03]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Benchmark
+    public Object sequentialRead()
+        throws IOException, ClassNotFoundException
+    {
+        return rf.readFile(nextSequential());
+    }//fim de sequentialRead()
+    
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Benchmark
+    public Object randomRead()
+        throws IOException, ClassNotFoundException
+    {
+        return rf.readFile(ThreadLocalRandom.current().nextInt(RECORDS));
+    }//fim de randomRead()
+    
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Benchmark
+    public void sequentialWrite()
+        throws IOException, ClassNotFoundException
+    {
+        rf.writeFile(record, nextSequential());
+    }//fim de sequentialWrite()
+    
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Benchmark
+    public void randomWrite()
+        throws IOException, ClassNotFoundException
+    {
+        rf.writeFile(record, ThreadLocalRandom.current().nextInt(RECORDS));
+    }//fim de randomWrite()
+    
+}//fim da classe RandomAccessObjectFileBenchmark
@@ -0,0 +1,151 @@
+/*
+Arquivo TextFileBenchmark.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.bench;
+
+import br.com.hkp.classes.io.files.textfiles.TextFile;
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks de leitura e gravacao de linhas com TextFile. A gravacao eh 
+ * medida com o arquivo aberto com e sem buffer.
+ * <p>
+ * Cada thread do benchmark usa seu proprio arquivo.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TextFileBenchmark
+{
+    // Linha gravada e lida pelos benchmarks.
+    private static final String LINE = 
+        String.format("%s %d %f\r\n", "registro-de-teste", 123456, 3.14159);
+    
+    // Quantas linhas o arquivo de leitura contem.
+    private static final int LINES = 100_000;
+    
+    /**
+     * Estado de uma thread que grava no arquivo.
+     */
+    @State(Scope.Thread)
+    public static class WriterState
+    {
+        /**
+         * Se true o arquivo eh aberto com buffer de gravacao.
+         */
+        @Param({"true", "false"})
+        public boolean buffered;
+        
+        File file;
+        TextFile tf;
+        
+        /*[00]------------------------------------------------------------------
+        *
+        ----------------------------------------------------------------------*/
+        @Setup(Level.Iteration)
+        public void setUp()
+            throws IOException
+        {
+            file = File.createTempFile("textfile-bench", ".txt");
+            tf = new TextFile(file);
+            tf.openToWrite(false, buffered);
+        }//fim de setUp()
+        
+        /*[01]------------------------------------------------------------------
+        *
+        ----------------------------------------------------------------------*/
+        @TearDown(Level.Iteration)
+        public void tearDown()
+            throws IOException
+        {
+            tf.close();
+            file.delete();
+        }//fim de tearDown()
+        
+    }//fim da classe WriterState
+    
+    /**
+     * Estado de uma thread que le o arquivo. Ao alcancar o fim do arquivo ele
+     * eh reaberto e a leitura recomeca da primeira linha.
+     */
+    @State(Scope.Thread)
+    public static class ReaderState
+    {
+        File file;
+        TextFile tf;
+        
+        /*[02]------------------------------------------------------------------
+        *
+        ----------------------------------------------------------------------*/
+        @Setup(Level.Trial)
+        public void setUp()
+            throws IOException
+        {
+            file = File.createTempFile("textfile-bench", ".txt");
+            tf = new TextFile(file);
+            tf.openToWrite(false, true);
+            for (int i = 0; i < LINES; i++) tf.write(LINE);
+            tf.close();
+            tf.openToRead();
+        }//fim de setUp()
+        
+        /*[03]------------------------------------------------------------------
+        *
+        ----------------------------------------------------------------------*/
+        @TearDown(Level.Trial)
+        public void tearDown()
+            throws IOException
+        {
+            tf.close();
+            file.delete();
+        }//fim de tearDown()
+        
+    }//fim da classe ReaderState
+    
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Benchmark
+    public void writeLine(WriterState s)
+        throws IOException
+    {
+        s.tf.write(LINE);
+    }//fim de writeLine()
+    
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Benchmark
+    public String readLine(ReaderState s)
+        throws IOException
+    {
+        if (s.tf.eof())
+        {
+            s.tf.close();
+            s.tf.openToRead();
+        }
+        return s.tf.readln();
+    }//fim de readLine()
+    
+}//fim da classe TextFileBenchmark
@@ -0,0 +1,639 @@
+/*
+Arquivo AsyncRandomAccessObjectFile.java criado a partir de 19 de outubro de
+2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.metrics.IoMetrics;
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.AsynchronousCloseException;
+import java.nio.channels.AsynchronousFileChannel;
+import java.nio.channels.CompletionHandler;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+
+/**
+ * Versao assincrona de RandomAccessObjectFile. Os metodos de leitura e 
+ * gravacao retornam imediatamente um CompletableFuture que eh completado 
+ * quando a operacao termina, sem bloquear a thread que os chamou. Os arquivos
+ * tem o mesmo formato dos arquivos de RandomAccessObjectFile.
+ * <p>
+ * As operacoes sao executadas com um AsynchronousFileChannel. Pedidos 
+ * pendentes para posicoes adjacentes sao agrupados em uma unica operacao de
+ * IO: quando ha muitas operacoes em andamento, os novos pedidos esperam em 
+ * uma fila e, quando uma operacao termina, os pedidos da fila sao ordenados
+ * por posicao e os pedidos de registros consecutivos sao lidos ou gravados
+ * de uma vez.
+ * <p>
+ * A ordem em que operacoes pendentes sao executadas nao eh garantida. Para 
+ * ler um registro que acabou de ser gravado espere antes o termino da 
+ * gravacao. Os metodos desta classe podem ser chamados por varias threads 
+ * simultaneamente.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class AsyncRandomAccessObjectFile implements Closeable
+{
+    // numero de operacoes de IO em andamento a partir do qual os novos 
+    // pedidos esperam na fila para serem agrupados
+    private static final int MAX_IN_FLIGHT = 32;
+    // tamanho maximo, em bytes, de uma operacao de IO agrupada
+    private static final int MAX_RUN_BYTES = 1 << 20;
+    
+    private final File file;
+    private final int recordLength;
+    private final ExecutorService executor;
+    
+    private final Deque<Request> pendingReads;
+    private final Deque<Request> pendingWrites;
+    private final AtomicBoolean dispatching;
+    private final AtomicInteger inFlight;
+    // posicao onde serah gravado o proximo registro acrescentado
+    private final AtomicLong appendPos;
+    
+    private volatile AsynchronousFileChannel channel;
+    private volatile IoMetricsRecorder metrics = IoMetricsRecorder.DISABLED;
+    
+    /*
+     * Um pedido de leitura ou gravacao. Em uma gravacao data contem os bytes
+     * do registro.
+     */
+    private static final class Request
+    {
+        final long pos;
+        final byte[] data;
+        final CompletableFuture<Object> future;
+        
+        Request(long pos, byte[] data)
+        {
+            this.pos = pos;
+            this.data = data;
+            future = new CompletableFuture<>();
+        }
+    }//fim da classe Request
+    
+    /**
+     * Constroi um objeto para ler e gravar assincronamente um arquivo de 
+     * registros de recLength bytes. As operacoes sao completadas pelo pool de
+     * threads padrao de AsynchronousFileChannel.
+     * 
+     * @param f O arquivo que serah criado ou atualizado.
+     * @param recLength O tamanho em bytes de cada registro. Ver 
+     * {@link RandomAccessObjectFile#objectLength(java.lang.Object)}.
+     */
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public AsyncRandomAccessObjectFile(File f, int recLength)
+    {
+        this(f, recLength, null);
+    }//fim do construtor AsyncRandomAccessObjectFile()
+    
+    /**
+     * Constroi um objeto para ler e gravar assincronamente um arquivo de 
+     * registros de recLength bytes, com as operacoes completadas pelas 
+     * threads de executor. Os objetos lidos sao convertidos nestas threads. 
+     * Em uma JVM com threads virtuais pode ser passado um executor que cria
+     * uma thread virtual por tarefa.
+     * 
+     * @param f O arquivo que serah criado ou atualizado.
+     * @param recLength O tamanho em bytes de cada registro.
+     * @param executor O executor. Se null usa o pool padrao.
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public AsyncRandomAccessObjectFile
+    (
+        File f, 
+        int recLength, 
+        ExecutorService executor
+    )
+    {
+        file = f;
+        recordLength = recLength;
+        this.executor = executor;
+        pendingReads = new ConcurrentLinkedDeque<>();
+        pendingWrites = new ConcurrentLinkedDeque<>();
+        dispatching = new AtomicBoolean(false);
+        inFlight = new AtomicInteger(0);
+        appendPos = new AtomicLong(0);
+    }//fim do construtor AsyncRandomAccessObjectFile()
+    
+    /**
+     * Abre o arquivo para leitura e escrita.
+     * 
+     * @throws IOException 
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public synchronized void open()
+        throws IOException
+    {
+        if (isOpen()) return;
+        
+        Set<StandardOpenOption> options = EnumSet.of
+                                  (
+                                      StandardOpenOption.CREATE,
+                                      StandardOpenOption.READ,
+                                      StandardOpenOption.WRITE
+                                  );
+        AsynchronousFileChannel ch = AsynchronousFileChannel.open
+                                     (
+                                         file.toPath(), options, executor
+                                     );
+        appendPos.set(ch.size() / recordLength);
+        channel = ch;
+    }//fim de open()
+    
+    /**
+     * Fecha o arquivo. Os pedidos ainda pendentes sao completados com uma
+     * AsynchronousCloseException.
+     * 
+     * @throws IOException 
+     */
+    /*[03]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public synchronized void close()
+        throws IOException
+    {
+        if (!isOpen()) return;
+        
+        AsynchronousFileChannel ch = channel;
+        channel = null;
+        ch.close();
+        
+        failAll(pendingReads);
+        failAll(pendingWrites);
+    }//fim de close()
+    
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private static void failAll(Queue<Request> queue)
+    {
+        Request r;
+        while ((r = queue.poll()) != null)
+            r.future.completeExceptionally(new AsynchronousCloseException());
+    }//fim de failAll()
+    
+    /**
+     * Retorna true se o arquivo estiver aberto. False se nao.
+     * 
+     * @return Retorna true se o arquivo jah estiver aberto.
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public boolean isOpen()
+    {
+        return channel != null;
+    }//fim de isOpen()
+    
+    /**
+     * Le assincronamente o registro na posicao indicada. A posicao 0 indica
+     * o primeiro registro.
+     * 
+     * @param pos A posicao do registro a ser lido.
+     * 
+     * @return Um future completado com o objeto lido, ou com uma excecao 
+     * (IOException, EOFException se a posicao estiver alem do fim do arquivo,
+     * ou ClassNotFoundException) se a leitura falhar.
+     */
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public CompletableFuture<Object> readAsync(long pos)
+    {
+        Request r = new Request(pos, null);
+        
+        if (!isOpen())
+            r.future.completeExceptionally
+                     (
+                         new IOException(file.getName() + " nao esta aberto")
+                     );
+        else if (pos < 0)
+            r.future.completeExceptionally
+                     (
+                         new IllegalArgumentException
+                         (
+                             "posicao negativa: " + pos
+                         )
+                     );
+        else
+        {
+            pendingReads.add(r);
+            dispatch();
+        }
+        return r.future;
+    }//fim de readAsync()
+    
+    /**
+     * Grava assincronamente um registro na posicao indicada. Se a posicao for
+     * negativa o registro eh acrescentado no fim do arquivo. O objeto eh 
+     * convertido em bytes antes do metodo retornar, portanto pode ser 
+     * alterado depois sem afetar a gravacao.
+     * 
+     * @param obj O objeto a ser gravado. Deve ter o tamanho de registro do 
+     * arquivo.
+     * @param pos A posicao onde serah gravado o registro.
+     * 
+     * @return Um future completado com a posicao onde o registro foi gravado,
+     * ou com uma excecao se a gravacao falhar.
+     */
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public CompletableFuture<Long> writeAsync(Object obj, long pos)
+    {
+        if (!isOpen())
+            return CompletableFuture.failedFuture
+                   (
+                       new IOException(file.getName() + " nao esta aberto")
+                   );
+        
+        byte[] bytes;
+        try
+        {
+            long t = metrics.start();
+            bytes = RandomAccessObjectFile.objectToBytes(obj);
+            metrics.record
+            (
+                IoOperation.SERIALIZE, t, bytes.length, file.getPath()
+            );
+        }
+        catch (IOException e)
+        {
+            return CompletableFuture.failedFuture(e);
+        }
+        
+        if (bytes.length != recordLength)
+            return CompletableFuture.failedFuture
+                   (
+                       new IOException
+                       (
+                           "registro de " + bytes.length + " bytes em arquivo "
+                           + "com registros de " + recordLength + " bytes"
+                       )
+                   );
+        
+        long p;
+        if (pos >= 0)
+        {
+            p = pos;
+            appendPos.accumulateAndGet(pos + 1, Math::max);
+        }
+        else
+            p = appendPos.getAndIncrement();
+        
+        Request r = new Request(p, bytes);
+        pendingWrites.add(r);
+        dispatch();
+        
+        return r.future.thenApply(x -> p);
+    }//fim de writeAsync()
+    
+    /*[08]----------------------------------------------------------------------
+    *   Agrupa os pedidos pendentes e dispara as operacoes de IO. Apenas uma 
+    *   thread agrupa pedidos por vez. Chamado a cada novo pedido e ao termino
+    *   de cada operacao.
+    --------------------------------------------------------------------------*/
+    private void dispatch()
+    {
+        while (true)
+        {
+            if (!dispatching.compareAndSet(false, true)) return;
+            
+            try
+            {
+                if (inFlight.get() < MAX_IN_FLIGHT)
+                {
+                    issue(drain(pendingWrites), true, pendingWrites);
+                    issue(drain(pendingReads), false, pendingReads);
+                }
+            }
+            finally
+            {
+                dispatching.set(false);
+            }
+            
+            // pedidos que voltaram para a fila depois de close() os esvaziar
+            if (channel == null)
+            {
+                failAll(pendingReads);
+                failAll(pendingWrites);
+                return;
+            }
+            
+            // um pedido pode ter chegado depois de a fila ser esvaziada e 
+            // antes de dispatching voltar a false
+            if (inFlight.get() >= MAX_IN_FLIGHT) return;
+            if (pendingReads.isEmpty() && pendingWrites.isEmpty()) return;
+        }
+    }//fim de dispatch()
+    
+    /*[09]----------------------------------------------------------------------
+    *                Esvazia a fila e ordena os pedidos por posicao
+    --------------------------------------------------------------------------*/
+    private static List<Request> drain(Queue<Request> queue)
+    {
+        List<Request> list = new ArrayList<>();
+        Request r;
+        while ((r = queue.poll()) != null) list.add(r);
+        list.sort(Comparator.comparingLong(req -> req.pos));
+        return list;
+    }//fim de drain()
+    
+    /*[10]----------------------------------------------------------------------
+    *   Divide os pedidos ordenados em sequencias de posicoes consecutivas e
+    *   dispara uma operacao de IO para cada sequencia. Em leituras, pedidos
+    *   para a mesma posicao compartilham a leitura. Quando MAX_IN_FLIGHT 
+    *   operacoes estao em andamento, os pedidos restantes voltam para o 
+    *   inicio da fila, na mesma ordem.
+    --------------------------------------------------------------------------*/
+    private void issue
+    (
+        List<Request> requests, 
+        boolean write, 
+        Deque<Request> queue
+    )
+    {
+        int maxRun = Math.max(1, MAX_RUN_BYTES / recordLength);
+        int i = 0;
+        while (i < requests.size())
+        {
+            if (inFlight.get() >= MAX_IN_FLIGHT)
+            {
+                for (int k = requests.size() - 1; k >= i; k--)
+                    queue.addFirst(requests.get(k));
+                return;
+            }
+            
+            int j = i + 1;
+            long last = requests.get(i).pos;
+            while (j < requests.size())
+            {
+                long p = requests.get(j).pos;
+                boolean adjacent = write ? p == last + 1 
+                                         : p == last || p == last + 1;
+                if (!adjacent || p - requests.get(i).pos >= maxRun) break;
+                last = p;
+                j++;
+            }
+            
+            List<Request> run = requests.subList(i, j);
+            if (write) startWrite(run); else startRead(run);
+            i = j;
+        }
+    }//fim de issue()
+    
+    /*[11]----------------------------------------------------------------------
+    *         Le de uma vez os registros de uma sequencia de pedidos
+    --------------------------------------------------------------------------*/
+    private void startRead(List<Request> run)
+    {
+        long first = run.get(0).pos;
+        long last = run.get(run.size() - 1).pos;
+        ByteBuffer buffer = ByteBuffer.allocate
+                            (
+                                (int)(last - first + 1) * recordLength
+                            );
+        long t = metrics.start();
+        
+        CompletionHandler<Integer, Void> handler = 
+            new CompletionHandler<Integer, Void>()
+        {
+            @Override
+            public void completed(Integer n, Void v)
+            {
+                if (n >= 0 && buffer.hasRemaining())
+                {
+                    AsynchronousFileChannel ch = channel;
+                    if (ch == null)
+                        failed(new AsynchronousCloseException(), null);
+                    else
+                        ch.read
+                        (
+                            buffer, first * recordLength + buffer.position(), 
+                            null, this
+                        );
+                    return;
+                }
+                
+                metrics.record
+                (
+                    IoOperation.READ_FILE, t, buffer.position(), file.getPath()
+                );
+                for (Request r : run) completeRead(r, buffer, first);
+                finished();
+            }
+            
+            @Override
+            public void failed(Throwable e, Void v)
+            {
+                for (Request r : run) r.future.completeExceptionally(e);
+                finished();
+            }
+        };
+        
+        start(run, () -> channel.read(buffer, first * recordLength, null, 
+                                      handler));
+    }//fim de startRead()
+    
+    /*[12]----------------------------------------------------------------------
+    *     Converte em objeto o registro de um pedido lido no buffer
+    --------------------------------------------------------------------------*/
+    private void completeRead(Request r, ByteBuffer buffer, long first)
+    {
+        int offset = (int)(r.pos - first) * recordLength;
+        if (offset + recordLength > buffer.position())
+        {
+            r.future.completeExceptionally
+                     (
+                         new EOFException("registro " + r.pos + " alem do " + 
+                                          "fim de " + file.getName())
+                     );
+            return;
+        }
+        
+        try
+        {
+            long t = metrics.start();
+            Object obj = RandomAccessObjectFile.bytesToObject
+                         (
+                             buffer.array(), offset, recordLength
+                         );
+            metrics.record
+            (
+                IoOperation.DESERIALIZE, t, recordLength, file.getPath()
+            );
+            r.future.complete(obj);
+        }
+        catch (IOException | ClassNotFoundException | RuntimeException e)
+        {
+            r.future.completeExceptionally(e);
+        }
+    }//fim de completeRead()
+    
+    /*[13]----------------------------------------------------------------------
+    *        Grava de uma vez os registros de uma sequencia de pedidos
+    --------------------------------------------------------------------------*/
+    private void startWrite(List<Request> run)
+    {
+        long first = run.get(0).pos;
+        ByteBuffer buffer = ByteBuffer.allocate(run.size() * recordLength);
+        for (Request r : run) buffer.put(r.data);
+        buffer.flip();
+        long t = metrics.start();
+        
+        CompletionHandler<Integer, Void> handler = 
+            new CompletionHandler<Integer, Void>()
+        {
+            @Override
+            public void completed(Integer n, Void v)
+            {
+                AsynchronousFileChannel ch = channel;
+                if (buffer.hasRemaining() && ch != null)
+                {
+                    ch.write
+                    (
+                        buffer, first * recordLength + buffer.position(), 
+                        null, this
+                    );
+                    return;
+                }
+                
+                metrics.record
+                (
+                    IoOperation.WRITE_FILE, t, buffer.position(), 
+                    file.getPath()
+                );
+                if (buffer.hasRemaining())
+                    failed(new AsynchronousCloseException(), null);
+                else
+                {
+                    for (Request r : run) r.future.complete(null);
+                    finished();
+                }
+            }
+            
+            @Override
+            public void failed(Throwable e, Void v)
+            {
+                for (Request r : run) r.future.completeExceptionally(e);
+                finished();
+            }
+        };
+        
+        start(run, () -> channel.write(buffer, first * recordLength, null, 
+                                       handler));
+    }//fim de startWrite()
+    
+    /*[14]----------------------------------------------------------------------
+    *   Conta a operacao como em andamento e a dispara. Se o arquivo foi 
+    *   fechado enquanto os pedidos eram agrupados, falha os pedidos.
+    --------------------------------------------------------------------------*/
+    private void start(List<Request> run, Runnable operation)
+    {
+        inFlight.incrementAndGet();
+        try
+        {
+            operation.run();
+        }
+        catch (RuntimeException e)
+        {
+            // channel null ou fechado
+            for (Request r : run) 
+                r.future.completeExceptionally
+                         (
+                             new AsynchronousCloseException()
+                         );
+            inFlight.decrementAndGet();
+        }
+    }//fim de start()
+    
+    /*[15]----------------------------------------------------------------------
+    *      Chamado ao termino de uma operacao: libera espaco e agrupa os
+    *      pedidos que esperavam na fila.
+    --------------------------------------------------------------------------*/
+    private void finished()
+    {
+        inFlight.decrementAndGet();
+        dispatch();
+    }//fim de finished()
+    
+    /**
+     * Retorna o tamanho do arquivo em registros, incluindo os registros 
+     * acrescentados por gravacoes ainda pendentes.
+     * 
+     * @return Quantos registros ha no arquivo.
+     */
+    /*[16]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long fileLength()
+    {
+        return isOpen() ? appendPos.get() : file.length() / recordLength;
+    }//fim de fileLength()
+    
+    /**
+     * Retorna o tamanho do registro em bytes.
+     * 
+     * @return O tamanho em bytes do registro.
+     */
+    /*[17]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int recordLength()
+    {
+        return recordLength;
+    }//fim de recordLength()
+    
+    /**
+     * Associa um coletor de metricas a este arquivo. Para desativar a coleta
+     * passe {@link IoMetricsRecorder#DISABLED}, que eh o coletor padrao.
+     * 
+     * @param recorder O coletor. Pode ser compartilhado por varios arquivos.
+     */
+    /*[18]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void setMetrics(IoMetricsRecorder recorder)
+    {
+        metrics = (recorder == null) ? IoMetricsRecorder.DISABLED : recorder;
+    }//fim de setMetrics()
+    
+    /**
+     * Retorna as metricas de IO coletadas para este arquivo.
+     * 
+     * @return O coletor associado a este arquivo.
+     */
+    /*[19]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public IoMetrics getMetrics()
+    {
+        return metrics;
+    }//fim de getMetrics()
+    
+}//fim da classe AsyncRandomAccessObjectFile
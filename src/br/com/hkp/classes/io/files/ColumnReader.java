@@ -0,0 +1,303 @@
+/*
+Arquivo ColumnReader.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+
+/**
+ * Leitor sequencial de uma coluna de um arquivo {@link ColumnarObjectFile}. 
+ * Os valores sao lidos em blocos para arrays primitivos, a partir do 
+ * primeiro registro. Objetos desta classe sao obtidos com 
+ * {@link ColumnarObjectFile#columnReader(String)}.
+ * <p>
+ * Cada metodo de leitura so pode ser usado com colunas de tipos compativeis:
+ * {@link #read(int[])} com BYTE, SHORT, CHAR e INT, {@link #read(long[])} 
+ * com LONG, {@link #read(double[])} com FLOAT e DOUBLE e 
+ * {@link #read(boolean[])} com BOOLEAN. O leitor deve ser fechado com 
+ * {@link #close()} ao fim do uso.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ColumnReader implements Closeable
+{
+    // tamanho do buffer de leitura em bytes
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    private final String path;
+    private final FileChannel channel;
+    private final RecordField.Type type;
+    private final long length;
+    private final IoMetricsRecorder metrics;
+    private final ByteBuffer buffer;
+    
+    // quantos valores ja foram retornados
+    private long pos;
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    ColumnReader
+    (
+        File column, 
+        RecordField.Type type, 
+        long length,
+        IoMetricsRecorder metrics
+    )
+        throws IOException
+    {
+        path = column.getPath();
+        channel = FileChannel.open(column.toPath(), StandardOpenOption.READ);
+        this.type = type;
+        this.metrics = metrics;
+        // nao le valores alem dos registros presentes em todas as colunas
+        this.length = Math.min(length, channel.size() / type.size());
+        buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+        buffer.limit(0);
+        pos = 0;
+    }//fim do construtor ColumnReader()
+    
+    /**
+     * Retorna o tipo da coluna.
+     * 
+     * @return O tipo dos valores da coluna.
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public RecordField.Type type()
+    {
+        return type;
+    }//fim de type()
+    
+    /**
+     * Retorna quantos valores ainda podem ser lidos.
+     * 
+     * @return O numero de valores restantes.
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long remaining()
+    {
+        return length - pos;
+    }//fim de remaining()
+    
+    /*[03]----------------------------------------------------------------------
+    *    Garante que o buffer tenha ao menos um valor. Retorna quantos 
+    *    valores ha no buffer, 0 no fim da coluna.
+    --------------------------------------------------------------------------*/
+    private int fill()
+        throws IOException
+    {
+        if (buffer.remaining() >= type.size()) 
+            return buffer.remaining() / type.size();
+        
+        if (pos >= length) return 0;
+        
+        long t = metrics.start();
+        buffer.clear();
+        long wanted = Math.min(buffer.capacity(), (length - pos) * type.size());
+        buffer.limit((int)wanted);
+        long offset = pos * type.size();
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, offset + buffer.position()) < 0)
+                throw new EOFException("Fim inesperado de " + path);
+        }
+        buffer.flip();
+        metrics.record(IoOperation.READ_FILE, t, buffer.limit(), path);
+        
+        return buffer.remaining() / type.size();
+    }//fim de fill()
+    
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private void checkType(RecordField.Type... accepted)
+    {
+        for (RecordField.Type t : accepted) if (t == type) return;
+        throw new IllegalStateException("coluna do tipo " + type + 
+                                        " em " + path);
+    }//fim de checkType()
+    
+    /**
+     * Le os proximos valores da coluna para o array, ate encher o array ou 
+     * alcancar o fim da coluna. Valido para colunas FLOAT e DOUBLE.
+     * 
+     * @param dst O array que recebe os valores.
+     * 
+     * @return Quantos valores foram lidos. 0 no fim da coluna.
+     * 
+     * @throws IOException 
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int read(double[] dst)
+        throws IOException
+    {
+        checkType(RecordField.Type.FLOAT, RecordField.Type.DOUBLE);
+        
+        int n = 0;
+        while (n < dst.length)
+        {
+            int available = fill();
+            if (available == 0) break;
+            
+            int k = Math.min(available, dst.length - n);
+            if (type == RecordField.Type.DOUBLE)
+            {
+                buffer.asDoubleBuffer().get(dst, n, k);
+                buffer.position(buffer.position() + k * 8);
+            }
+            else
+            {
+                for (int i = 0; i < k; i++) dst[n + i] = buffer.getFloat();
+            }
+            n += k;
+            pos += k;
+        }
+        return n;
+    }//fim de read()
+    
+    /**
+     * Le os proximos valores da coluna para o array, ate encher o array ou 
+     * alcancar o fim da coluna. Valido para colunas LONG.
+     * 
+     * @param dst O array que recebe os valores.
+     * 
+     * @return Quantos valores foram lidos. 0 no fim da coluna.
+     * 
+     * @throws IOException 
+     */
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int read(long[] dst)
+        throws IOException
+    {
+        checkType(RecordField.Type.LONG);
+        
+        int n = 0;
+        while (n < dst.length)
+        {
+            int available = fill();
+            if (available == 0) break;
+            
+            int k = Math.min(available, dst.length - n);
+            buffer.asLongBuffer().get(dst, n, k);
+            buffer.position(buffer.position() + k * 8);
+            n += k;
+            pos += k;
+        }
+        return n;
+    }//fim de read()
+    
+    /**
+     * Le os proximos valores da coluna para o array, ate encher o array ou 
+     * alcancar o fim da coluna. Valido para colunas BYTE, SHORT, CHAR e INT.
+     * 
+     * @param dst O array que recebe os valores.
+     * 
+     * @return Quantos valores foram lidos. 0 no fim da coluna.
+     * 
+     * @throws IOException 
+     */
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int read(int[] dst)
+        throws IOException
+    {
+        checkType
+        (
+            RecordField.Type.BYTE, RecordField.Type.SHORT, 
+            RecordField.Type.CHAR, RecordField.Type.INT
+        );
+        
+        int n = 0;
+        while (n < dst.length)
+        {
+            int available = fill();
+            if (available == 0) break;
+            
+            int k = Math.min(available, dst.length - n);
+            switch (type)
+            {
+                case INT:
+                    buffer.asIntBuffer().get(dst, n, k);
+                    buffer.position(buffer.position() + k * 4);
+                    break;
+                case SHORT:
+                    for (int i = 0; i < k; i++) dst[n + i] = buffer.getShort();
+                    break;
+                case CHAR:
+                    for (int i = 0; i < k; i++) dst[n + i] = buffer.getChar();
+                    break;
+                default: // BYTE
+                    for (int i = 0; i < k; i++) dst[n + i] = buffer.get();
+                    break;
+            }//fim do switch
+            n += k;
+            pos += k;
+        }
+        return n;
+    }//fim de read()
+    
+    /**
+     * Le os proximos valores da coluna para o array, ate encher o array ou 
+     * alcancar o fim da coluna. Valido para colunas BOOLEAN.
+     * 
+     * @param dst O array que recebe os valores.
+     * 
+     * @return Quantos valores foram lidos. 0 no fim da coluna.
+     * 
+     * @throws IOException 
+     */
+    /*[08]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int read(boolean[] dst)
+        throws IOException
+    {
+        checkType(RecordField.Type.BOOLEAN);
+        
+        int n = 0;
+        while (n < dst.length)
+        {
+            int available = fill();
+            if (available == 0) break;
+            
+            int k = Math.min(available, dst.length - n);
+            for (int i = 0; i < k; i++) dst[n + i] = buffer.get() != 0;
+            n += k;
+            pos += k;
+        }
+        return n;
+    }//fim de read()
+    
+    /**
+     * Fecha o leitor.
+     * 
+     * @throws IOException 
+     */
+    /*[09]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public void close()
+        throws IOException
+    {
+        channel.close();
+    }//fim de close()
+    
+}//fim da classe ColumnReader
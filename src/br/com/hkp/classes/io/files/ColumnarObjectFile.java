@@ -0,0 +1,653 @@
+/*
+Arquivo ColumnarObjectFile.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.metrics.IoMetrics;
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
+import java.io.*;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+
+/**
+ * Arquivo de objetos organizado em colunas. Cada campo primitivo da classe
+ * dos objetos eh gravado em um arquivo proprio, com os valores de todos os 
+ * registros em sequencia, de modo que a leitura de um unico campo de todos
+ * os registros le apenas os bytes deste campo. O arquivo da coluna de um 
+ * campo tem o nome base.campo.col, onde base eh o arquivo passado ao 
+ * construtor.
+ * <p>
+ * Serve de companheiro a um arquivo RandomAccessObjectFile para consultas que
+ * leem um ou dois campos de muitos registros. Os registros podem ser copiados
+ * de um RandomAccessObjectFile com {@link #append(RandomAccessObjectFile)}.
+ * Uma coluna eh lida para arrays primitivos com {@link #columnReader(String)}
+ * ou {@link #readDoubleColumn(String)}, e um registro inteiro pode ser 
+ * recuperado com {@link #readRow(long)}.
+ * <p>
+ * A classe dos objetos deve ter um construtor sem argumentos e todos os 
+ * seus campos que nao sejam static ou transient devem ser primitivos. Os 
+ * valores sao gravados em ordem big-endian.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ColumnarObjectFile
+{
+    // tamanho do buffer de gravacao de cada coluna em bytes
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    private final File base;
+    private final Class<?> recordClass;
+    private final Constructor<?> constructor;
+    private final Column[] columns;
+    
+    private static enum State{CLOSE, OPEN};
+    private State state;
+    
+    private IoMetricsRecorder metrics = IoMetricsRecorder.DISABLED;
+    
+    /*
+     * Uma coluna: o campo da classe, o seu tipo, o arquivo e, quando aberto,
+     * o canal e o buffer de gravacao.
+     */
+    private static final class Column
+    {
+        final Field field;
+        final RecordField.Type type;
+        final File file;
+        FileChannel channel;
+        ByteBuffer buffer;
+        
+        Column(Field field, RecordField.Type type, File file)
+        {
+            this.field = field;
+            this.type = type;
+            this.file = file;
+        }
+    }//fim da classe Column
+    
+    /**
+     * Constroi um objeto para gravar e ler objetos da classe recordClass em 
+     * colunas. Os arquivos das colunas ficam no mesmo diretorio de base e 
+     * tem o nome de base como prefixo.
+     * 
+     * @param base O arquivo base. Ele proprio nao eh criado.
+     * @param recordClass A classe dos objetos.
+     * 
+     * @throws IllegalArgumentException Se a classe tiver campos nao 
+     * primitivos, dois campos com o mesmo nome em classes diferentes da 
+     * hierarquia ou nao tiver um construtor sem argumentos.
+     */
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public ColumnarObjectFile(File base, Class<?> recordClass)
+    {
+        this.base = base;
+        this.recordClass = recordClass;
+        
+        try
+        {
+            constructor = recordClass.getDeclaredConstructor();
+            constructor.setAccessible(true);
+        }
+        catch (NoSuchMethodException e)
+        {
+            throw new IllegalArgumentException
+                      (
+                          recordClass.getName() + 
+                          " nao tem construtor sem argumentos"
+                      );
+        }
+        
+        List<Column> list = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        for (Class<?> c = recordClass; c != Object.class; c = c.getSuperclass())
+        {
+            for (Field f : c.getDeclaredFields())
+            {
+                int m = f.getModifiers();
+                if (Modifier.isStatic(m) || Modifier.isTransient(m)) continue;
+                
+                if (!f.getType().isPrimitive())
+                    throw new IllegalArgumentException
+                              (
+                                  recordClass.getName() + 
+                                  " tem campo nao primitivo: " + f.getName()
+                              );
+                
+                // o nome do campo define o arquivo da coluna
+                if (!names.add(f.getName()))
+                    throw new IllegalArgumentException
+                              (
+                                  recordClass.getName() + 
+                                  " tem mais de um campo " + f.getName()
+                              );
+                
+                f.setAccessible(true);
+                list.add
+                (
+                    new Column
+                    (
+                        f, 
+                        typeOf(f.getType()), 
+                        new File(base.getPath() + "." + f.getName() + ".col")
+                    )
+                );
+            }
+        }
+        list.sort(Comparator.comparing(col -> col.field.getName()));
+        columns = list.toArray(new Column[0]);
+        
+        state = State.CLOSE;
+    }//fim do construtor ColumnarObjectFile()
+    
+    /*[01]----------------------------------------------------------------------
+    *           Converte um tipo primitivo em um valor de RecordField.Type
+    --------------------------------------------------------------------------*/
+    private static RecordField.Type typeOf(Class<?> c)
+    {
+        if (c == double.class) return RecordField.Type.DOUBLE;
+        if (c == int.class) return RecordField.Type.INT;
+        if (c == long.class) return RecordField.Type.LONG;
+        if (c == float.class) return RecordField.Type.FLOAT;
+        if (c == short.class) return RecordField.Type.SHORT;
+        if (c == char.class) return RecordField.Type.CHAR;
+        if (c == byte.class) return RecordField.Type.BYTE;
+        return RecordField.Type.BOOLEAN;
+    }//fim de typeOf()
+    
+    /*[02]----------------------------------------------------------------------
+    *                  Retorna a coluna do campo de nome name
+    --------------------------------------------------------------------------*/
+    private Column column(String name)
+    {
+        for (Column c : columns) 
+            if (c.field.getName().equals(name)) return c;
+        
+        throw new IllegalArgumentException
+                  (
+                      recordClass.getName() + " nao tem campo " + name
+                  );
+    }//fim de column()
+    
+    /**
+     * Abre os arquivos das colunas para leitura e escrita, criando os que 
+     * nao existirem.
+     * <p>
+     * Se as colunas nao tiverem o mesmo numero de valores, como apos uma 
+     * falha durante a gravacao, todas sao truncadas para o numero de valores
+     * da coluna mais curta. Assim cada linha continua formada pelos valores
+     * de um mesmo registro. Apenas os valores que podem ter ficado sem 
+     * gravar em uma falha sao descartados: se o arquivo de uma coluna nao 
+     * existir enquanto outras tem valores, ou se a falta de valores em uma
+     * coluna, em relacao a mais longa, for maior do que cabe no seu buffer,
+     * nada eh truncado e eh lancada uma IOException. Isto ocorre, por exemplo, 
+     * quando a classe ganhou campos depois que os registros foram gravados.
+     * 
+     * @throws IOException Erro de IO ou colunas com tamanhos incompativeis.
+     */
+    /*[03]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void open()
+        throws IOException
+    {
+        if (isOpen()) return;
+        
+        checkColumns();
+        
+        for (Column c : columns)
+        {
+            c.channel = FileChannel.open
+                        (
+                            c.file.toPath(), 
+                            StandardOpenOption.CREATE,
+                            StandardOpenOption.READ,
+                            StandardOpenOption.WRITE
+                        );
+            c.buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        }
+        state = State.OPEN;
+        
+        // descarta os registros que nao foram gravados em todas as colunas
+        long records = Long.MAX_VALUE;
+        for (Column c : columns)
+            records = Math.min(records, c.channel.size() / c.type.size());
+        for (Column c : columns)
+        {
+            long size = records * c.type.size();
+            if (c.channel.size() > size) c.channel.truncate(size);
+            c.channel.position(size);
+        }
+    }//fim de open()
+    
+    /*[04]----------------------------------------------------------------------
+    *   Verifica, antes de abrir as colunas, se as diferencas entre os seus
+    *   tamanhos podem ter sido deixadas por uma falha durante a gravacao:
+    *   cada coluna pode estar atrasada no maximo um buffer em relacao a 
+    *   mais longa.
+    --------------------------------------------------------------------------*/
+    private void checkColumns()
+        throws IOException
+    {
+        long longest = 0;
+        for (Column c : columns)
+            longest = Math.max(longest, c.file.length() / c.type.size());
+        if (longest == 0) return;
+        
+        for (Column c : columns)
+        {
+            if (!c.file.exists())
+                throw new IOException
+                          (
+                              "coluna " + c.file.getName() + " nao existe " +
+                              "e as demais tem " + longest + " valores"
+                          );
+            
+            long records = c.file.length() / c.type.size();
+            if (longest - records > BUFFER_SIZE / c.type.size())
+                throw new IOException
+                          (
+                              "coluna " + c.file.getName() + " tem " + 
+                              records + " valores e a mais longa tem " +
+                              longest
+                          );
+        }
+    }//fim de checkColumns()
+    
+    /**
+     * Grava os registros acrescentados que ainda estiverem nos buffers e 
+     * fecha os arquivos das colunas.
+     * 
+     * @throws IOException 
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void close()
+        throws IOException
+    {
+        if (!isOpen()) return;
+        
+        try
+        {
+            flush();
+        }
+        finally
+        {
+            for (Column c : columns)
+            {
+                c.channel.close();
+                c.channel = null;
+                c.buffer = null;
+            }
+            state = State.CLOSE;
+        }
+    }//fim de close()
+    
+    /**
+     * Retorna true se o arquivo estiver aberto. False se nao.
+     * 
+     * @return Retorna true se o arquivo jah estiver aberto.
+     */
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public boolean isOpen()
+    {
+        return state.equals(State.OPEN);
+    }//fim de isOpen()
+    
+    /**
+     * Acrescenta um registro no fim do arquivo. Os valores ficam nos buffers
+     * das colunas ate que estes encham ou que {@link #flush()} ou 
+     * {@link #close()} sejam chamados. Nao faz nada se o arquivo nao estiver 
+     * aberto.
+     * 
+     * @param obj O objeto. Deve ser da classe passada ao construtor.
+     * 
+     * @throws IOException 
+     */
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void append(Object obj)
+        throws IOException
+    {
+        if (!isOpen()) return;
+        
+        // lanca ClassCastException se obj for de outra classe
+        recordClass.cast(obj);
+        
+        /*
+        Esvazia antes os buffers sem espaco, para que uma falha de gravacao 
+        nao deixe parte do registro nos buffers
+        */
+        for (Column c : columns)
+            if (c.buffer.remaining() < c.type.size()) flushColumn(c);
+        
+        try
+        {
+            for (Column c : columns)
+            {
+                Field f = c.field;
+                switch (c.type)
+                {
+                    case DOUBLE: c.buffer.putDouble(f.getDouble(obj)); break;
+                    case INT: c.buffer.putInt(f.getInt(obj)); break;
+                    case LONG: c.buffer.putLong(f.getLong(obj)); break;
+                    case FLOAT: c.buffer.putFloat(f.getFloat(obj)); break;
+                    case SHORT: c.buffer.putShort(f.getShort(obj)); break;
+                    case CHAR: c.buffer.putChar(f.getChar(obj)); break;
+                    case BYTE: c.buffer.put(f.getByte(obj)); break;
+                    default: 
+                        c.buffer.put((byte)(f.getBoolean(obj) ? 1 : 0));
+                        break;
+                }//fim do switch
+            }
+        }
+        catch (IllegalAccessException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }//fim de append()
+    
+    /**
+     * Acrescenta no fim deste arquivo todos os registros de um arquivo 
+     * RandomAccessObjectFile, lidos em sequencia com 
+     * {@link RandomAccessObjectFile#scan()}. Nao faz nada se este arquivo 
+     * nao estiver aberto.
+     * 
+     * @param rf O arquivo de origem. Seus objetos devem ser da classe passada
+     * ao construtor.
+     * 
+     * @return Quantos registros foram acrescentados.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[08]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long append(RandomAccessObjectFile rf)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return 0;
+        
+        long count = 0;
+        try (ObjectFileScanCursor cursor = rf.scan())
+        {
+            while (cursor.hasNext())
+            {
+                append(cursor.next());
+                count++;
+            }
+        }
+        flush();
+        return count;
+    }//fim de append()
+    
+    /**
+     * Grava nos arquivos das colunas os valores que estiverem nos buffers.
+     * 
+     * @throws IOException 
+     */
+    /*[09]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void flush()
+        throws IOException
+    {
+        if (!isOpen()) return;
+        
+        for (Column c : columns) flushColumn(c);
+    }//fim de flush()
+    
+    /*[10]----------------------------------------------------------------------
+    *           Grava no arquivo da coluna o conteudo do seu buffer
+    --------------------------------------------------------------------------*/
+    private void flushColumn(Column c)
+        throws IOException
+    {
+        c.buffer.flip();
+        int n = c.buffer.remaining();
+        if (n > 0)
+        {
+            long t = metrics.start();
+            while (c.buffer.hasRemaining()) c.channel.write(c.buffer);
+            metrics.record(IoOperation.WRITE_FILE, t, n, c.file.getPath());
+        }
+        c.buffer.clear();
+    }//fim de flushColumn()
+    
+    /**
+     * Retorna o numero de registros gravados nos arquivos das colunas. Nao 
+     * inclui registros acrescentados que ainda estejam nos buffers. Se as 
+     * colunas tiverem tamanhos diferentes, conta apenas os registros 
+     * gravados em todas elas.
+     * 
+     * @return O numero de registros.
+     */
+    /*[11]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long fileLength()
+    {
+        if (columns.length == 0) return 0;
+        
+        long records = Long.MAX_VALUE;
+        for (Column c : columns)
+            records = Math.min(records, c.file.length() / c.type.size());
+        return records;
+    }//fim de fileLength()
+    
+    /**
+     * Retorna os nomes dos campos armazenados, um por coluna.
+     * 
+     * @return Os nomes dos campos em ordem alfabetica.
+     */
+    /*[12]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public String[] fieldNames()
+    {
+        String[] names = new String[columns.length];
+        for (int i = 0; i < columns.length; i++) 
+            names[i] = columns[i].field.getName();
+        return names;
+    }//fim de fieldNames()
+    
+    /**
+     * Retorna um leitor sequencial da coluna de um campo. Os registros que 
+     * estiverem nos buffers de gravacao sao gravados antes. 
+     * 
+     * @param field O nome do campo.
+     * 
+     * @return O leitor. Deve ser fechado ao fim do uso.
+     * 
+     * @throws IOException 
+     */
+    /*[13]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public ColumnReader columnReader(String field)
+        throws IOException
+    {
+        Column c = column(field);
+        flush();
+        return new ColumnReader(c.file, c.type, fileLength(), metrics);
+    }//fim de columnReader()
+    
+    /**
+     * Le todos os valores da coluna de um campo FLOAT ou DOUBLE.
+     * 
+     * @param field O nome do campo.
+     * 
+     * @return Os valores do campo em todos os registros.
+     * 
+     * @throws IOException 
+     */
+    /*[14]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public double[] readDoubleColumn(String field)
+        throws IOException
+    {
+        try (ColumnReader r = columnReader(field))
+        {
+            double[] values = new double[Math.toIntExact(r.remaining())];
+            r.read(values);
+            return values;
+        }
+    }//fim de readDoubleColumn()
+    
+    /**
+     * Le todos os valores da coluna de um campo LONG.
+     * 
+     * @param field O nome do campo.
+     * 
+     * @return Os valores do campo em todos os registros.
+     * 
+     * @throws IOException 
+     */
+    /*[15]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long[] readLongColumn(String field)
+        throws IOException
+    {
+        try (ColumnReader r = columnReader(field))
+        {
+            long[] values = new long[Math.toIntExact(r.remaining())];
+            r.read(values);
+            return values;
+        }
+    }//fim de readLongColumn()
+    
+    /**
+     * Le todos os valores da coluna de um campo BYTE, SHORT, CHAR ou INT.
+     * 
+     * @param field O nome do campo.
+     * 
+     * @return Os valores do campo em todos os registros.
+     * 
+     * @throws IOException 
+     */
+    /*[16]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int[] readIntColumn(String field)
+        throws IOException
+    {
+        try (ColumnReader r = columnReader(field))
+        {
+            int[] values = new int[Math.toIntExact(r.remaining())];
+            r.read(values);
+            return values;
+        }
+    }//fim de readIntColumn()
+    
+    /**
+     * Le o registro na posicao indicada, reunindo os valores de todas as 
+     * colunas em um objeto. O arquivo deve estar aberto.
+     * 
+     * @param pos A posicao do registro. 0 indica o primeiro registro.
+     * 
+     * @return O objeto, ou null se o arquivo nao estiver aberto.
+     * 
+     * @throws IOException
+     */
+    /*[17]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public Object readRow(long pos)
+        throws IOException
+    {
+        if (!isOpen()) return null;
+        
+        flush();
+        
+        try
+        {
+            Object obj = constructor.newInstance();
+            ByteBuffer value = ByteBuffer.allocate(8);
+            
+            for (Column c : columns)
+            {
+                long t = metrics.start();
+                value.clear().limit(c.type.size());
+                while (value.hasRemaining())
+                {
+                    long offset = pos * c.type.size() + value.position();
+                    if (c.channel.read(value, offset) < 0)
+                        throw new EOFException("Fim inesperado de " + 
+                                               c.file.getPath());
+                }
+                value.flip();
+                metrics.record
+                (
+                    IoOperation.READ_FILE, t, c.type.size(), c.file.getPath()
+                );
+                
+                Field f = c.field;
+                switch (c.type)
+                {
+                    case DOUBLE: f.setDouble(obj, value.getDouble()); break;
+                    case INT: f.setInt(obj, value.getInt()); break;
+                    case LONG: f.setLong(obj, value.getLong()); break;
+                    case FLOAT: f.setFloat(obj, value.getFloat()); break;
+                    case SHORT: f.setShort(obj, value.getShort()); break;
+                    case CHAR: f.setChar(obj, value.getChar()); break;
+                    case BYTE: f.setByte(obj, value.get()); break;
+                    default: f.setBoolean(obj, value.get() != 0); break;
+                }//fim do switch
+            }
+            return obj;
+        }
+        catch (ReflectiveOperationException e)
+        {
+            throw new IllegalStateException(e);
+        }
+    }//fim de readRow()
+    
+    /**
+     * Associa um coletor de metricas a este arquivo. Para desativar a coleta
+     * passe {@link IoMetricsRecorder#DISABLED}, que eh o coletor padrao.
+     * 
+     * @param recorder O coletor. Pode ser compartilhado por varios arquivos.
+     */
+    /*[18]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void setMetrics(IoMetricsRecorder recorder)
+    {
+        metrics = (recorder == null) ? IoMetricsRecorder.DISABLED : recorder;
+    }//fim de setMetrics()
+    
+    /**
+     * Retorna as metricas de IO coletadas para este arquivo.
+     * 
+     * @return O coletor associado a este arquivo.
+     */
+    /*[19]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public IoMetrics getMetrics()
+    {
+        return metrics;
+    }//fim de getMetrics()
+    
+}//fim da classe ColumnarObjectFile
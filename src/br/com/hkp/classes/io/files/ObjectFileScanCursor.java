@@ -0,0 +1,280 @@
+/*
+Arquivo ObjectFileScanCursor.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.NoSuchElementException;
+import java.util.concurrent.*;
+
+
+/**
+ * Cursor para leitura sequencial de todos os registros de um arquivo 
+ * RandomAccessObjectFile, do primeiro ao ultimo. Objetos desta classe sao
+ * obtidos com o metodo {@link RandomAccessObjectFile#scan()}.
+ * <p>
+ * O cursor le o arquivo em blocos de varios registros. Enquanto os registros
+ * de um bloco sao convertidos em objetos pela thread que chama 
+ * {@link #next()}, o bloco seguinte jah estah sendo lido por uma thread de 
+ * leitura antecipada, em um segundo buffer. Assim a leitura do disco e a 
+ * conversao dos registros sao feitas ao mesmo tempo.
+ * <p>
+ * O cursor percorre apenas os registros que existiam no arquivo quando foi 
+ * criado. Um objeto desta classe nao deve ser usado por mais de uma thread.
+ * O cursor deve ser fechado com {@link #close()} ao fim do uso.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ObjectFileScanCursor implements Closeable
+{
+    private final String path;
+    private final FileChannel channel;
+    private final int recordLength;
+    private final int blockRecords;
+    private final long end;
+    private final IoMetricsRecorder metrics;
+    private final ExecutorService readAhead;
+    
+    // bloco corrente, de onde os registros sao convertidos em objetos
+    private ByteBuffer current;
+    // bloco que estah sendo lido antecipadamente
+    private ByteBuffer next;
+    private Future<Integer> pending;
+    
+    // posicao (em registros) do proximo registro a ser retornado
+    private long pos;
+    // posicao (em registros) do primeiro registro do bloco corrente
+    private long currentFirst;
+    // quantos registros validos ha no bloco corrente
+    private int currentCount;
+    // posicao (em registros) do bloco que estah sendo lido antecipadamente
+    private long nextFirst;
+    
+    private boolean closed;
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    ObjectFileScanCursor
+    (
+        File file, 
+        int recordLength, 
+        long first,
+        int blockRecords, 
+        IoMetricsRecorder metrics
+    )
+        throws IOException
+    {
+        if (blockRecords <= 0)
+            throw new IllegalArgumentException
+                      (
+                          "blockRecords deve ser positivo: " + blockRecords
+                      );
+        
+        path = file.getPath();
+        channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+        this.recordLength = recordLength;
+        this.blockRecords = blockRecords;
+        this.metrics = metrics;
+        end = channel.size() / recordLength;
+        
+        int blockLength = Math.multiplyExact(blockRecords, recordLength);
+        current = ByteBuffer.allocate(blockLength);
+        next = ByteBuffer.allocate(blockLength);
+        
+        readAhead = Executors.newSingleThreadExecutor
+                    (
+                        r -> 
+                        {
+                            Thread t = new Thread(r, "raof-read-ahead");
+                            t.setDaemon(true);
+                            return t;
+                        }
+                    );
+        
+        pos = Math.max(first, 0);
+        currentFirst = pos;
+        currentCount = 0;
+        nextFirst = pos;
+        submitReadAhead();
+    }//fim do construtor ObjectFileScanCursor()
+    
+    /*[01]----------------------------------------------------------------------
+    *    Dispara a leitura antecipada do bloco que comeca em nextFirst
+    --------------------------------------------------------------------------*/
+    private void submitReadAhead()
+    {
+        if (nextFirst >= end)
+        {
+            pending = null;
+            return;
+        }
+        
+        final ByteBuffer buffer = next;
+        final long first = nextFirst;
+        pending = readAhead.submit(() -> readBlock(buffer, first));
+    }//fim de submitReadAhead()
+    
+    /*[02]----------------------------------------------------------------------
+    *   Le no buffer um bloco a partir do registro first. Executado pela 
+    *   thread de leitura antecipada. Retorna quantos registros foram lidos.
+    --------------------------------------------------------------------------*/
+    private int readBlock(ByteBuffer buffer, long first)
+        throws IOException
+    {
+        long t = metrics.start();
+        
+        int records = (int)Math.min(blockRecords, end - first);
+        buffer.clear();
+        buffer.limit(records * recordLength);
+        
+        long offset = first * recordLength;
+        while (buffer.hasRemaining())
+        {
+            int n = channel.read(buffer, offset + buffer.position());
+            if (n < 0) break;
+        }
+        
+        metrics.record(IoOperation.READ_FILE, t, buffer.position(), path);
+        
+        return buffer.position() / recordLength;
+    }//fim de readBlock()
+    
+    /*[03]----------------------------------------------------------------------
+    *   Espera a leitura antecipada terminar, torna o bloco lido o bloco 
+    *   corrente e dispara a leitura do bloco seguinte no outro buffer.
+    --------------------------------------------------------------------------*/
+    private void advanceBlock()
+        throws IOException
+    {
+        int count;
+        try
+        {
+            count = pending.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Leitura de " + path + 
+                                             " interrompida");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) throw (IOException)cause;
+            throw new IOException("Erro ao ler " + path, cause);
+        }
+        
+        ByteBuffer tmp = current;
+        current = next;
+        next = tmp;
+        
+        currentFirst = nextFirst;
+        currentCount = count;
+        nextFirst = currentFirst + count;
+        
+        // o arquivo encolheu depois de aberto o cursor
+        if (count == 0)
+        {
+            pending = null;
+            throw new EOFException("Fim inesperado de " + path);
+        }
+        
+        submitReadAhead();
+    }//fim de advanceBlock()
+    
+    /**
+     * Indica se ainda ha registros a serem lidos pelo cursor.
+     * 
+     * @return true se houver mais registros.
+     */
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public boolean hasNext()
+    {
+        return !closed && pos < end;
+    }//fim de hasNext()
+    
+    /**
+     * Le o proximo registro e avanca o cursor.
+     * 
+     * @return O objeto lido do registro. Deve sofrer uma coercao para o tipo
+     * apropriado de classe.
+     * 
+     * @throws NoSuchElementException Se nao houver mais registros.
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public Object next()
+        throws IOException, ClassNotFoundException
+    {
+        if (!hasNext()) throw new NoSuchElementException();
+        
+        if (pos >= currentFirst + currentCount) advanceBlock();
+        
+        int offset = (int)(pos - currentFirst) * recordLength;
+        
+        long t = metrics.start();
+        Object obj = RandomAccessObjectFile.bytesToObject
+                     (
+                         current.array(), offset, recordLength
+                     );
+        metrics.record(IoOperation.DESERIALIZE, t, recordLength, path);
+        
+        pos++;
+        return obj;
+    }//fim de next()
+    
+    /**
+     * Retorna a posicao do registro que serah retornado pela proxima chamada
+     * de {@link #next()}.
+     * 
+     * @return A posicao do proximo registro.
+     */
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long position()
+    {
+        return pos;
+    }//fim de position()
+    
+    /**
+     * Fecha o cursor, encerrando a thread de leitura antecipada.
+     * 
+     * @throws IOException 
+     */
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public void close()
+        throws IOException
+    {
+        if (closed) return;
+        
+        closed = true;
+        readAhead.shutdownNow();
+        try
+        {
+            readAhead.awaitTermination(1, TimeUnit.MINUTES);
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+        }
+        channel.close();
+    }//fim de close()
+    
+}//fim da classe ObjectFileScanCursor
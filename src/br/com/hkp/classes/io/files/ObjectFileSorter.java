@@ -0,0 +1,450 @@
+/*
+Arquivo ObjectFileSorter.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+
+/**
+ * Ordenacao externa dos registros de um arquivo RandomAccessObjectFile, para
+ * arquivos que nao cabem na memoria.
+ * <p>
+ * O arquivo eh dividido em trechos que cabem no limite de memoria. Cada 
+ * trecho eh lido, ordenado e gravado em um arquivo temporario (uma corrida),
+ * com varios trechos processados em paralelo. As corridas sao entao 
+ * intercaladas com um heap em um novo arquivo. Todas as leituras e gravacoes
+ * sao sequenciais. A ordenacao eh estavel: registros iguais segundo o 
+ * comparador mantem a ordem do arquivo original.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ObjectFileSorter
+{
+    // numero maximo de corridas intercaladas de uma vez
+    private static final int MAX_FAN_IN = 256;
+    // memoria estimada, alem dos bytes do registro, por registro na memoria
+    private static final int OBJECT_OVERHEAD = 64;
+    // limites do buffer de leitura de cada corrida na intercalacao
+    private static final int MIN_MERGE_BUFFER = 1 << 13;
+    private static final int MAX_MERGE_BUFFER = 1 << 20;
+    
+    /*
+     * Um registro na memoria: o objeto, usado na comparacao, e os seus 
+     * bytes, que sao gravados sem nova serializacao.
+     */
+    private static final class Entry
+    {
+        final Object obj;
+        final byte[] bytes;
+        final int offset;
+        
+        Entry(Object obj, byte[] bytes, int offset)
+        {
+            this.obj = obj;
+            this.bytes = bytes;
+            this.offset = offset;
+        }
+    }//fim da classe Entry
+    
+    /*
+     * Leitor sequencial de uma corrida durante a intercalacao.
+     */
+    private static final class RunReader
+    {
+        final int index;
+        final DataInputStream in;
+        Entry head;
+        long remaining;
+        
+        RunReader(int index, File run, long records, int bufferSize)
+            throws IOException
+        {
+            this.index = index;
+            in = new DataInputStream
+                 (
+                     new BufferedInputStream
+                     (
+                         new FileInputStream(run), bufferSize
+                     )
+                 );
+            remaining = records;
+        }
+    }//fim da classe RunReader
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private ObjectFileSorter()
+    {
+    }//fim do construtor ObjectFileSorter()
+    
+    /**
+     * Ordena os registros do arquivo in, gravando-os em ordem no arquivo out.
+     * O arquivo in nao eh alterado. Se out jah existir serah sobrescrito. Os
+     * arquivos temporarios sao criados no diretorio de out.
+     * 
+     * @param <T> A classe dos objetos do arquivo.
+     * @param in O arquivo a ser ordenado. Nao precisa estar aberto.
+     * @param out O arquivo ordenado que serah criado.
+     * @param comparator O comparador que define a ordem dos objetos.
+     * @param memoryBudget O limite aproximado, em bytes, de memoria usada 
+     * pelos registros durante a ordenacao.
+     * @param parallelism Quantos trechos sao ordenados em paralelo.
+     * 
+     * @return O arquivo ordenado, fechado, com o mesmo tamanho de registro 
+     * de in.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static <T> RandomAccessObjectFile sort
+    (
+        RandomAccessObjectFile in,
+        File out,
+        Comparator<? super T> comparator,
+        long memoryBudget,
+        int parallelism
+    )
+        throws IOException, ClassNotFoundException
+    {
+        if (parallelism < 1)
+            throw new IllegalArgumentException
+                      (
+                          "parallelism deve ser positivo: " + parallelism
+                      );
+        
+        int recordLength = in.recordLength();
+        long perRecord = 2L * recordLength + OBJECT_OVERHEAD;
+        long runRecords = Math.max(1, memoryBudget / parallelism / perRecord);
+        runRecords = Math.min(runRecords, Integer.MAX_VALUE / recordLength);
+        
+        File dir = out.getAbsoluteFile().getParentFile();
+        List<File> runs = new ArrayList<>();
+        List<Long> counts = new ArrayList<>();
+        // todos os arquivos temporarios, apagados ao final
+        List<File> temps = new ArrayList<>();
+        
+        try
+        {
+            createRuns
+            (
+                in, dir, comparator, (int)runRecords, parallelism, runs, 
+                counts
+            );
+            
+            while (runs.size() > MAX_FAN_IN)
+            {
+                List<File> merged = new ArrayList<>();
+                List<Long> mergedCounts = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += MAX_FAN_IN)
+                {
+                    int j = Math.min(i + MAX_FAN_IN, runs.size());
+                    File run = Files.createTempFile
+                               (
+                                   dir.toPath(), "sort-run", ".tmp"
+                               ).toFile();
+                    temps.add(run);
+                    merged.add(run);
+                    mergedCounts.add
+                    (
+                        merge
+                        (
+                            runs.subList(i, j), counts.subList(i, j), run,
+                            recordLength, comparator, memoryBudget
+                        )
+                    );
+                }
+                deleteAll(runs);
+                runs = merged;
+                counts = mergedCounts;
+            }
+            
+            merge(runs, counts, out, recordLength, comparator, memoryBudget);
+        }
+        finally
+        {
+            temps.addAll(runs);
+            deleteAll(temps);
+        }
+        
+        return new RandomAccessObjectFile(out, recordLength);
+    }//fim de sort()
+    
+    /*[02]----------------------------------------------------------------------
+    *   Divide o arquivo em trechos de runRecords registros e grava cada um, 
+    *   ordenado, em uma corrida. Ate parallelism trechos sao processados ao
+    *   mesmo tempo.
+    --------------------------------------------------------------------------*/
+    private static <T> void createRuns
+    (
+        RandomAccessObjectFile in,
+        File dir,
+        Comparator<? super T> comparator,
+        int runRecords,
+        int parallelism,
+        List<File> runs,
+        List<Long> counts
+    )
+        throws IOException, ClassNotFoundException
+    {
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        
+        try 
+        (
+            FileChannel channel = FileChannel.open
+                                  (
+                                      in.file().toPath(), 
+                                      StandardOpenOption.READ
+                                  )
+        )
+        {
+            int recordLength = in.recordLength();
+            long n = channel.size() / recordLength;
+            List<Future<?>> tasks = new ArrayList<>();
+            
+            for (long first = 0; first < n; first += runRecords)
+            {
+                final long from = first;
+                final int count = (int)Math.min(runRecords, n - first);
+                final File run = Files.createTempFile
+                                 (
+                                     dir.toPath(), "sort-run", ".tmp"
+                                 ).toFile();
+                runs.add(run);
+                counts.add((long)count);
+                
+                tasks.add
+                (
+                    pool.submit
+                    (
+                        () -> 
+                        {
+                            sortRun
+                            (
+                                channel, from, count, recordLength, 
+                                comparator, run
+                            );
+                            return null;
+                        }
+                    )
+                );
+            }
+            
+            for (Future<?> t : tasks) await(t);
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }//fim de createRuns()
+    
+    /*[03]----------------------------------------------------------------------
+    *      Le count registros a partir de from, ordena e grava na corrida
+    --------------------------------------------------------------------------*/
+    @SuppressWarnings("unchecked")
+    private static <T> void sortRun
+    (
+        FileChannel channel,
+        long from,
+        int count,
+        int recordLength,
+        Comparator<? super T> comparator,
+        File run
+    )
+        throws IOException, ClassNotFoundException
+    {
+        byte[] block = new byte[count * recordLength];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        long offset = from * recordLength;
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, offset + buffer.position()) < 0)
+                throw new EOFException("Fim inesperado do arquivo");
+        }
+        
+        Entry[] entries = new Entry[count];
+        for (int i = 0; i < count; i++)
+        {
+            int off = i * recordLength;
+            entries[i] = new Entry
+                         (
+                             RandomAccessObjectFile.bytesToObject
+                             (
+                                 block, off, recordLength
+                             ),
+                             block, 
+                             off
+                         );
+        }
+        
+        // Arrays.sort de objetos eh estavel
+        Arrays.sort(entries, (a, b) -> comparator.compare((T)a.obj, (T)b.obj));
+        
+        try 
+        (
+            OutputStream out = new BufferedOutputStream
+                               (
+                                   new FileOutputStream(run), 1 << 16
+                               )
+        )
+        {
+            for (Entry e : entries) out.write(e.bytes, e.offset, recordLength);
+        }
+    }//fim de sortRun()
+    
+    /*[04]----------------------------------------------------------------------
+    *   Intercala as corridas no arquivo out. Retorna quantos registros foram
+    *   gravados.
+    --------------------------------------------------------------------------*/
+    @SuppressWarnings("unchecked")
+    private static <T> long merge
+    (
+        List<File> runs,
+        List<Long> counts,
+        File out,
+        int recordLength,
+        Comparator<? super T> comparator,
+        long memoryBudget
+    )
+        throws IOException, ClassNotFoundException
+    {
+        int bufferSize = (int)Math.max
+                         (
+                             MIN_MERGE_BUFFER,
+                             Math.min
+                             (
+                                 MAX_MERGE_BUFFER, 
+                                 memoryBudget / (runs.size() + 1)
+                             )
+                         );
+        
+        // em caso de empate vence a corrida de menor indice, que contem 
+        // registros anteriores no arquivo original
+        PriorityQueue<RunReader> heap = new PriorityQueue<>
+        (
+            Math.max(1, runs.size()),
+            (a, b) -> 
+            {
+                int c = comparator.compare((T)a.head.obj, (T)b.head.obj);
+                return (c != 0) ? c : Integer.compare(a.index, b.index);
+            }
+        );
+        
+        List<RunReader> readers = new ArrayList<>();
+        long written = 0;
+        
+        try 
+        (
+            OutputStream output = new BufferedOutputStream
+                                  (
+                                      new FileOutputStream(out), bufferSize
+                                  )
+        )
+        {
+            for (int i = 0; i < runs.size(); i++)
+            {
+                RunReader r = new RunReader
+                              (
+                                  i, runs.get(i), counts.get(i), bufferSize
+                              );
+                readers.add(r);
+                if (advance(r, recordLength)) heap.add(r);
+            }
+            
+            while (!heap.isEmpty())
+            {
+                RunReader r = heap.poll();
+                output.write(r.head.bytes, 0, recordLength);
+                written++;
+                if (advance(r, recordLength)) heap.add(r);
+            }
+        }
+        finally
+        {
+            for (RunReader r : readers) r.in.close();
+        }
+        
+        return written;
+    }//fim de merge()
+    
+    /*[05]----------------------------------------------------------------------
+    *   Le o proximo registro da corrida. Retorna false no fim da corrida.
+    --------------------------------------------------------------------------*/
+    private static boolean advance(RunReader r, int recordLength)
+        throws IOException, ClassNotFoundException
+    {
+        if (r.remaining == 0)
+        {
+            r.head = null;
+            return false;
+        }
+        
+        byte[] bytes = new byte[recordLength];
+        r.in.readFully(bytes);
+        r.head = new Entry
+                 (
+                     RandomAccessObjectFile.bytesToObject
+                     (
+                         bytes, 0, recordLength
+                     ),
+                     bytes,
+                     0
+                 );
+        r.remaining--;
+        return true;
+    }//fim de advance()
+    
+    /*[06]----------------------------------------------------------------------
+    *   Espera o termino de uma tarefa, relancando a excecao que ela lancou
+    --------------------------------------------------------------------------*/
+    private static void await(Future<?> task)
+        throws IOException, ClassNotFoundException
+    {
+        try
+        {
+            task.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Ordenacao interrompida");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException)c;
+            if (c instanceof ClassNotFoundException) 
+                throw (ClassNotFoundException)c;
+            if (c instanceof RuntimeException) throw (RuntimeException)c;
+            throw new IOException(c);
+        }
+    }//fim de await()
+    
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private static void deleteAll(List<File> files)
+    {
+        for (File f : files) f.delete();
+    }//fim de deleteAll()
+    
+}//fim da classe ObjectFileSorter
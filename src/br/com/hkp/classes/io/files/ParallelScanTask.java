@@ -0,0 +1,152 @@
+/*
+Arquivo ParallelScanTask.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RecursiveTask;
+
+
+/*
+ * Tarefa de fork-join usada por RandomAccessObjectFile.parallelScan(). 
+ * Divide o intervalo de registros [from, to) ao meio ate que caiba em um
+ * bloco de blockRecords registros. Cada bloco eh lido com uma leitura 
+ * posicional do canal compartilhado, o filtro eh testado sobre os bytes de
+ * cada registro e apenas os registros selecionados sao convertidos em 
+ * objetos. Os resultados sao retornados na ordem das posicoes.
+ * 
+ * Excecoes de IO e de conversao sao embrulhadas em ScanException e 
+ * desembrulhadas por RandomAccessObjectFile.parallelScan().
+ */
+final class ParallelScanTask extends RecursiveTask<List<Object>>
+{
+    private static final long serialVersionUID = 1L;
+    
+    private final FileChannel channel;
+    private final String path;
+    private final int recordLength;
+    private final int blockRecords;
+    private final RecordFilter filter;
+    private final IoMetricsRecorder metrics;
+    private final long from;
+    private final long to;
+    
+    /*
+     * Embrulha uma IOException ou ClassNotFoundException lancada por uma 
+     * tarefa.
+     */
+    static final class ScanException extends RuntimeException
+    {
+        private static final long serialVersionUID = 1L;
+        
+        ScanException(Exception cause)
+        {
+            super(cause);
+        }
+    }//fim da classe ScanException
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    ParallelScanTask
+    (
+        FileChannel channel,
+        String path,
+        int recordLength,
+        int blockRecords,
+        RecordFilter filter,
+        IoMetricsRecorder metrics,
+        long from,
+        long to
+    )
+    {
+        this.channel = channel;
+        this.path = path;
+        this.recordLength = recordLength;
+        this.blockRecords = blockRecords;
+        this.filter = filter;
+        this.metrics = metrics;
+        this.from = from;
+        this.to = to;
+    }//fim do construtor ParallelScanTask()
+    
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    protected List<Object> compute()
+    {
+        if (to - from <= blockRecords)
+        {
+            try
+            {
+                return scanBlock();
+            }
+            catch (IOException | ClassNotFoundException e)
+            {
+                throw new ScanException(e);
+            }
+        }
+        
+        long mid = from + (to - from) / 2;
+        ParallelScanTask left = new ParallelScanTask
+                                (
+                                    channel, path, recordLength, blockRecords,
+                                    filter, metrics, from, mid
+                                );
+        ParallelScanTask right = new ParallelScanTask
+                                 (
+                                     channel, path, recordLength, blockRecords,
+                                     filter, metrics, mid, to
+                                 );
+        right.fork();
+        List<Object> result = left.compute();
+        List<Object> rightResult = right.join();
+        
+        if (result.isEmpty()) return rightResult;
+        result.addAll(rightResult);
+        return result;
+    }//fim de compute()
+    
+    /*[02]----------------------------------------------------------------------
+    *      Le o bloco [from, to), testa o filtro e converte os selecionados
+    --------------------------------------------------------------------------*/
+    private List<Object> scanBlock()
+        throws IOException, ClassNotFoundException
+    {
+        int length = (int)(to - from) * recordLength;
+        byte[] block = new byte[length];
+        ByteBuffer buffer = ByteBuffer.wrap(block);
+        
+        long t = metrics.start();
+        long offset = from * recordLength;
+        while (buffer.hasRemaining())
+        {
+            if (channel.read(buffer, offset + buffer.position()) < 0) 
+                throw new EOFException("Fim inesperado de " + path);
+        }
+        metrics.record(IoOperation.READ_FILE, t, length, path);
+        
+        List<Object> result = new ArrayList<>();
+        for (int off = 0; off < length; off += recordLength)
+        {
+            if (!filter.test(block, off)) continue;
+            
+            t = metrics.start();
+            result.add
+            (
+                RandomAccessObjectFile.bytesToObject(block, off, recordLength)
+            );
+            metrics.record(IoOperation.DESERIALIZE, t, recordLength, path);
+        }
+        
+        return result;
+    }//fim de scanBlock()
+    
+}//fim da classe ParallelScanTask
@@ -3,7 +3,14 @@ Arquivo RandomAccessObjectFile.java criado a partir de 26 de marco de 2019.
 */
 package br.com.hkp.classes.io.files;
 
+import br.com.hkp.classes.io.files.metrics.IoMetrics;
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
 import java.io.*;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 
 
 /**
@@ -31,6 +38,13 @@ public final class RandomAccessObjectFile
     private static enum State{CLOSE, OPEN};
     private State state;
     
+    private IoMetricsRecorder metrics = IoMetricsRecorder.DISABLED;
+    
+    // tamanho aproximado, em bytes, dos blocos lidos por scan()
+    private static final int DEFAULT_SCAN_BLOCK = 1 << 20;
+    // tamanho aproximado, em bytes, dos blocos lidos por parallelScan()
+    private static final int PARALLEL_SCAN_BLOCK = 1 << 18;
+    
     /**
      * Constroi um objeto para gravar e ler com acesso direto em um arquivo onde
      * se pode inserir e recuperar objetos. Deve ser fornecido a este construtor
@@ -63,7 +77,7 @@ public final class RandomAccessObjectFile
     /*[01]----------------------------------------------------------------------
     *            Converte um objeto em um array de bytes
     --------------------------------------------------------------------------*/
-    private static byte[] objectToBytes(Object obj)
+    static byte[] objectToBytes(Object obj)
         throws IOException
     {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
@@ -79,14 +93,14 @@ public final class RandomAccessObjectFile
     }//fim de objectToBytes()
     
     /*[02]----------------------------------------------------------------------
-    *              Converte um array de bytes em objeto.
+    *     Converte em objeto os len bytes do array a partir de offset.
     --------------------------------------------------------------------------*/
-    private static Object bytesToObject(byte[] objByteArray)
+    static Object bytesToObject(byte[] objByteArray, int offset, int len)
         throws IOException, ClassNotFoundException
     {
         return new ObjectInputStream
                    (
-                       new ByteArrayInputStream(objByteArray)
+                       new ByteArrayInputStream(objByteArray, offset, len)
                    ).readObject(); 
     }//fim de bytesToObject()
     
@@ -137,10 +151,22 @@ public final class RandomAccessObjectFile
     {
         if (!isOpen()) return null;
         
-        randomFile.seek(pos * recordLength);
-        randomFile.read(arrayObject);
+        long t = metrics.start();
+        randomFile.seek((long)pos * recordLength);
+        int n = randomFile.read(arrayObject);
+        metrics.record
+        (
+            IoOperation.READ_FILE, t, Math.max(n, 0), file.getPath()
+        );
         
-        return bytesToObject(arrayObject);
+        t = metrics.start();
+        Object obj = bytesToObject(arrayObject, 0, recordLength);
+        metrics.record
+        (
+            IoOperation.DESERIALIZE, t, recordLength, file.getPath()
+        );
+        
+        return obj;
 
     }//fim de readFile()
        
@@ -167,13 +193,19 @@ public final class RandomAccessObjectFile
         throws IOException, ClassNotFoundException
     {
         if (!isOpen()) return;
+        
+        long t = metrics.start();
+        byte[] bytes = objectToBytes(obj);
+        metrics.record(IoOperation.SERIALIZE, t, bytes.length, file.getPath());
       
+        t = metrics.start();
         if (pos >= 0)
-            randomFile.seek(pos * recordLength);
+            randomFile.seek((long)pos * recordLength);
         else
             randomFile.seek(file.length());
       
-        randomFile.write(objectToBytes(obj));
+        randomFile.write(bytes);
+        metrics.record(IoOperation.WRITE_FILE, t, bytes.length, file.getPath());
     
     }//fim de writeFile()
     
@@ -253,12 +285,230 @@ public final class RandomAccessObjectFile
         return recordLength;
     }//fim de recordLength()
     
+    /**
+     * Retorna um cursor para ler sequencialmente todos os registros do 
+     * arquivo, do primeiro ao ultimo, com leitura antecipada em blocos de 
+     * aproximadamente 1 MiB. Equivale a {@code scan(0, n)} onde n eh o numero
+     * de registros que cabem em 1 MiB.
+     * <p>
+     * Um laco de leitura de todo o arquivo fica:
+     * <pre>
+     * try (ObjectFileScanCursor c = rf.scan())
+     * {
+     *     while (c.hasNext()) processa(c.next());
+     * }
+     * </pre>
+     * 
+     * @return O cursor. Deve ser fechado ao fim do uso.
+     * 
+     * @throws IOException 
+     */
+    /*[11]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public ObjectFileScanCursor scan()
+        throws IOException
+    {
+        return scan(0, Math.max(1, DEFAULT_SCAN_BLOCK / recordLength));
+    }//fim de scan()
+    
+    /**
+     * Retorna um cursor para ler sequencialmente os registros do arquivo a 
+     * partir da posicao first ate o ultimo. O cursor le o arquivo em blocos de
+     * blockRecords registros em uma thread de leitura antecipada, enquanto a
+     * thread que chama {@link ObjectFileScanCursor#next()} converte em 
+     * objetos os registros do bloco anterior. O cursor usa seu proprio canal
+     * de leitura e nao depende do arquivo estar aberto com {@link #open()}.
+     * 
+     * @param first A posicao do primeiro registro a ser lido.
+     * @param blockRecords Quantos registros sao lidos em cada bloco.
+     * 
+     * @return O cursor. Deve ser fechado ao fim do uso.
+     * 
+     * @throws IOException 
+     */
+    /*[12]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public ObjectFileScanCursor scan(long first, int blockRecords)
+        throws IOException
+    {
+        return new ObjectFileScanCursor
+                   (
+                       file, recordLength, first, blockRecords, metrics
+                   );
+    }//fim de scan()
+    
+    /**
+     * Retorna os objetos de todos os registros do arquivo selecionados pelo 
+     * filtro, na ordem em que estao no arquivo. Equivale a
+     * {@code parallelScan(filter, ForkJoinPool.commonPool())}.
+     * 
+     * @param filter O filtro testado sobre os bytes de cada registro.
+     * 
+     * @return Os objetos dos registros selecionados.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[13]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public List<Object> parallelScan(RecordFilter filter)
+        throws IOException, ClassNotFoundException
+    {
+        return parallelScan(filter, ForkJoinPool.commonPool());
+    }//fim de parallelScan()
+    
+    /**
+     * Retorna os objetos de todos os registros do arquivo selecionados pelo 
+     * filtro, na ordem em que estao no arquivo.
+     * <p>
+     * Os registros sao divididos em blocos que sao lidos e testados em 
+     * paralelo pelas threads do pool. O filtro eh testado sobre os bytes de 
+     * cada registro, e apenas os registros selecionados sao convertidos em 
+     * objetos. Com filtros seletivos isso evita o custo de converter todos os
+     * registros do arquivo. O metodo usa seu proprio canal de leitura e nao 
+     * depende do arquivo estar aberto com {@link #open()}.
+     * 
+     * @param filter O filtro testado sobre os bytes de cada registro. Ver
+     * {@link RecordField} para obter a posicao de um campo no registro.
+     * @param pool O pool de threads que executa a varredura.
+     * 
+     * @return Os objetos dos registros selecionados.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[14]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public List<Object> parallelScan(RecordFilter filter, ForkJoinPool pool)
+        throws IOException, ClassNotFoundException
+    {
+        int blockRecords = Math.max(1, PARALLEL_SCAN_BLOCK / recordLength);
+        
+        try
+        (
+            FileChannel channel = FileChannel.open
+                                  (
+                                      file.toPath(), StandardOpenOption.READ
+                                  )
+        )
+        {
+            ParallelScanTask task = new ParallelScanTask
+                                    (
+                                        channel,
+                                        file.getPath(),
+                                        recordLength,
+                                        blockRecords,
+                                        filter,
+                                        metrics,
+                                        0,
+                                        channel.size() / recordLength
+                                    );
+            return pool.invoke(task);
+        }
+        catch (ParallelScanTask.ScanException e)
+        {
+            // o pool pode relancar uma copia da excecao original, entao a 
+            // causa eh procurada na cadeia de excecoes
+            for (Throwable c = e.getCause(); c != null; c = c.getCause())
+            {
+                if (c instanceof IOException) throw (IOException)c;
+                if (c instanceof ClassNotFoundException) 
+                    throw (ClassNotFoundException)c;
+            }
+            throw e;
+        }
+    }//fim de parallelScan()
+    
+    /*[15]----------------------------------------------------------------------
+    *   Acrescenta no fim do arquivo len bytes de registros jah serializados.
+    *   len deve ser multiplo do tamanho do registro.
+    --------------------------------------------------------------------------*/
+    void appendRecords(byte[] records, int len)
+        throws IOException
+    {
+        if (!isOpen()) return;
+        
+        long t = metrics.start();
+        randomFile.seek(randomFile.length());
+        randomFile.write(records, 0, len);
+        metrics.record(IoOperation.WRITE_FILE, t, len, file.getPath());
+    }//fim de appendRecords()
+    
+    /*[16]----------------------------------------------------------------------
+    *   Le count registros consecutivos a partir da posicao first com uma 
+    *   unica leitura e converte cada um em objeto.
+    --------------------------------------------------------------------------*/
+    Object[] readRecords(int first, int count)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return null;
+        
+        int length = count * recordLength;
+        byte[] block = new byte[length];
+        
+        long t = metrics.start();
+        randomFile.seek((long)first * recordLength);
+        randomFile.readFully(block);
+        metrics.record(IoOperation.READ_FILE, t, length, file.getPath());
+        
+        Object[] objs = new Object[count];
+        for (int i = 0; i < count; i++)
+        {
+            t = metrics.start();
+            objs[i] = bytesToObject(block, i * recordLength, recordLength);
+            metrics.record
+            (
+                IoOperation.DESERIALIZE, t, recordLength, file.getPath()
+            );
+        }
+        return objs;
+    }//fim de readRecords()
+    
+    /*[17]----------------------------------------------------------------------
+    *                    Retorna o arquivo de registros
+    --------------------------------------------------------------------------*/
+    File file()
+    {
+        return file;
+    }//fim de file()
+    
+    /**
+     * Associa um coletor de metricas a este arquivo. Para desativar a coleta
+     * passe {@link IoMetricsRecorder#DISABLED}, que eh o coletor padrao.
+     * 
+     * @param recorder O coletor. Pode ser compartilhado por varios arquivos.
+     */
+    /*[18]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void setMetrics(IoMetricsRecorder recorder)
+    {
+        metrics = (recorder == null) ? IoMetricsRecorder.DISABLED : recorder;
+    }//fim de setMetrics()
+    
+    /**
+     * Retorna as metricas de IO coletadas para este arquivo.
+     * 
+     * @return O coletor associado a este arquivo.
+     */
+    /*[19]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public IoMetrics getMetrics()
+    {
+        return metrics;
+    }//fim de getMetrics()
+    
     /**
      * Metodo com exemplos de uso da classe.
      * 
      * @param args Nao utilizado.
      */
-    /*[11]----------------------------------------------------------------------
+    /*[20]----------------------------------------------------------------------
     *
     --------------------------------------------------------------------------*/
     public static void main(String[] args)
@@ -274,6 +524,7 @@ public final class RandomAccessObjectFile
             
             System.out.println("++++"+rf.recordLength());
                                  
+            rf.setMetrics(new IoMetricsRecorder());
             rf.open();
             
             System.out.println("file length "+rf.fileLength());
@@ -290,6 +541,19 @@ public final class RandomAccessObjectFile
             (
                 "Obj. lido do arquivo: " + obj.i + " " + obj.d+obj.f
             );
+            
+            int count = 0;
+            try (ObjectFileScanCursor c = rf.scan())
+            {
+                while (c.hasNext()) 
+                {
+                    obj = (NewClass)c.next();
+                    count++;
+                }
+            }
+            System.out.println("registros lidos com scan(): " + count);
+            
+            System.out.println(rf.getMetrics());
         }
         catch (Exception e)
         {
@@ -0,0 +1,381 @@
+/*
+Arquivo RecordField.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import java.io.*;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.lang.reflect.Modifier;
+import java.nio.ByteOrder;
+
+
+/**
+ * Descreve um campo primitivo dentro dos bytes de um registro de um arquivo
+ * RandomAccessObjectFile: a posicao do campo em bytes a partir do inicio do
+ * registro e o seu tipo. Permite ler o valor do campo diretamente dos bytes
+ * do registro, sem converter o registro em objeto.
+ * <p>
+ * A posicao pode ser informada explicitamente com 
+ * {@link #of(RecordField.Type, int)} ou calculada com 
+ * {@link #locate(Class, String, int)} para classes cujos campos serializaveis
+ * sejam todos primitivos.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class RecordField
+{
+    /**
+     * Os tipos primitivos que um campo pode ter, com o tamanho em bytes que
+     * cada um ocupa no registro.
+     */
+    public static enum Type
+    {
+        BYTE(1), BOOLEAN(1), CHAR(2), SHORT(2), INT(4), FLOAT(4), LONG(8),
+        DOUBLE(8);
+        
+        private final int size;
+        
+        Type(int size)
+        {
+            this.size = size;
+        }
+        
+        /**
+         * Retorna o tamanho do tipo em bytes.
+         * 
+         * @return O tamanho em bytes.
+         */
+        public int size()
+        {
+            return size;
+        }
+    };
+    
+    // A serializacao grava os campos primitivos em ordem big-endian.
+    private static final VarHandle SHORT_VIEW = 
+        view(short[].class);
+    private static final VarHandle CHAR_VIEW = 
+        view(char[].class);
+    private static final VarHandle INT_VIEW = 
+        view(int[].class);
+    private static final VarHandle LONG_VIEW = 
+        view(long[].class);
+    private static final VarHandle FLOAT_VIEW = 
+        view(float[].class);
+    private static final VarHandle DOUBLE_VIEW = 
+        view(double[].class);
+    
+    private final Type type;
+    private final int offset;
+    
+    /*--------------------------------------------------------------------------
+    *   Cria um VarHandle que le do array de bytes valores do tipo do array
+    *   arrayClass em ordem big-endian.
+    --------------------------------------------------------------------------*/
+    private static VarHandle view(Class<?> arrayClass)
+    {
+        return MethodHandles.byteArrayViewVarHandle
+                   (
+                       arrayClass, ByteOrder.BIG_ENDIAN
+                   );
+    }//fim de view()
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private RecordField(Type type, int offset)
+    {
+        if (offset < 0)
+            throw new IllegalArgumentException("offset negativo: " + offset);
+        
+        this.type = type;
+        this.offset = offset;
+    }//fim do construtor RecordField()
+    
+    /**
+     * Cria a descricao de um campo com tipo e posicao explicitos.
+     * 
+     * @param type O tipo do campo.
+     * @param offset A posicao do primeiro byte do campo a partir do inicio do
+     * registro.
+     * 
+     * @return A descricao do campo.
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static RecordField of(Type type, int offset)
+    {
+        return new RecordField(type, offset);
+    }//fim de of()
+    
+    /**
+     * Calcula a posicao de um campo nos registros de objetos da classe c. Na
+     * serializacao os valores dos campos primitivos sao gravados no final do
+     * registro, entao a posicao pode ser calculada quando a classe nao tem
+     * campos serializaveis que sejam objetos, nao herda campos serializaveis
+     * e nao personaliza a serializacao com writeObject() ou writeExternal().
+     * 
+     * @param c A classe dos objetos gravados no arquivo.
+     * @param name O nome do campo.
+     * @param recordLength O tamanho do registro, retornado por 
+     * {@link RandomAccessObjectFile#recordLength()}.
+     * 
+     * @return A descricao do campo.
+     * 
+     * @throws IllegalArgumentException Se o campo nao existir ou se a posicao
+     * nao puder ser calculada para esta classe.
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static RecordField locate(Class<?> c, String name, int recordLength)
+    {
+        ObjectStreamClass desc = ObjectStreamClass.lookup(c);
+        if (desc == null)
+            throw new IllegalArgumentException(c.getName() + 
+                                               " nao eh serializavel");
+        
+        if (Externalizable.class.isAssignableFrom(c) || 
+            hasWriteObject(c) ||
+            Serializable.class.isAssignableFrom(c.getSuperclass()))
+            throw new IllegalArgumentException
+                      (
+                          "Posicao dos campos de " + c.getName() + 
+                          " nao pode ser calculada"
+                      );
+        
+        int primDataSize = 0;
+        ObjectStreamField target = null;
+        for (ObjectStreamField f : desc.getFields())
+        {
+            if (!f.isPrimitive())
+                throw new IllegalArgumentException
+                          (
+                              c.getName() + " tem campo nao primitivo: " + 
+                              f.getName()
+                          );
+            
+            int end = f.getOffset() + typeOf(f.getTypeCode()).size();
+            primDataSize = Math.max(primDataSize, end);
+            if (f.getName().equals(name)) target = f;
+        }
+        
+        if (target == null)
+            throw new IllegalArgumentException
+                      (
+                          c.getName() + " nao tem campo serializavel " + name
+                      );
+        
+        return new RecordField
+                   (
+                       typeOf(target.getTypeCode()),
+                       recordLength - primDataSize + target.getOffset()
+                   );
+    }//fim de locate()
+    
+    /*[03]----------------------------------------------------------------------
+    *          Indica se a classe declara um metodo writeObject() privado
+    --------------------------------------------------------------------------*/
+    private static boolean hasWriteObject(Class<?> c)
+    {
+        try
+        {
+            int m = c.getDeclaredMethod("writeObject", ObjectOutputStream.class)
+                     .getModifiers();
+            return Modifier.isPrivate(m) && !Modifier.isStatic(m);
+        }
+        catch (NoSuchMethodException e)
+        {
+            return false;
+        }
+    }//fim de hasWriteObject()
+    
+    /*[04]----------------------------------------------------------------------
+    *       Converte o codigo de tipo da serializacao em um valor de Type
+    --------------------------------------------------------------------------*/
+    private static Type typeOf(char typeCode)
+    {
+        switch (typeCode)
+        {
+            case 'B': return Type.BYTE;
+            case 'Z': return Type.BOOLEAN;
+            case 'C': return Type.CHAR;
+            case 'S': return Type.SHORT;
+            case 'I': return Type.INT;
+            case 'F': return Type.FLOAT;
+            case 'J': return Type.LONG;
+            case 'D': return Type.DOUBLE;
+            default:
+                throw new IllegalArgumentException("tipo nao primitivo: " + 
+                                                   typeCode);
+        }//fim do switch
+    }//fim de typeOf()
+    
+    /**
+     * Retorna o tipo do campo.
+     * 
+     * @return O tipo.
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public Type type()
+    {
+        return type;
+    }//fim de type()
+    
+    /**
+     * Retorna a posicao do campo a partir do inicio do registro.
+     * 
+     * @return A posicao em bytes.
+     */
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int offset()
+    {
+        return offset;
+    }//fim de offset()
+    
+    /**
+     * Le o campo como byte. Valido para os tipos BYTE e BOOLEAN.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public byte getByte(byte[] record, int recordOffset)
+    {
+        return record[recordOffset + offset];
+    }//fim de getByte()
+    
+    /**
+     * Le o campo como boolean. Valido para o tipo BOOLEAN.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[08]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public boolean getBoolean(byte[] record, int recordOffset)
+    {
+        return record[recordOffset + offset] != 0;
+    }//fim de getBoolean()
+    
+    /**
+     * Le o campo como char. Valido para o tipo CHAR.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[09]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public char getChar(byte[] record, int recordOffset)
+    {
+        return (char)CHAR_VIEW.get(record, recordOffset + offset);
+    }//fim de getChar()
+    
+    /**
+     * Le o campo como short. Valido para o tipo SHORT.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[10]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public short getShort(byte[] record, int recordOffset)
+    {
+        return (short)SHORT_VIEW.get(record, recordOffset + offset);
+    }//fim de getShort()
+    
+    /**
+     * Le o campo como int. Valido para o tipo INT.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[11]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int getInt(byte[] record, int recordOffset)
+    {
+        return (int)INT_VIEW.get(record, recordOffset + offset);
+    }//fim de getInt()
+    
+    /**
+     * Le o campo como long. Valido para o tipo LONG.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[12]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long getLong(byte[] record, int recordOffset)
+    {
+        return (long)LONG_VIEW.get(record, recordOffset + offset);
+    }//fim de getLong()
+    
+    /**
+     * Le o campo como float. Valido para o tipo FLOAT.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[13]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public float getFloat(byte[] record, int recordOffset)
+    {
+        return (float)FLOAT_VIEW.get(record, recordOffset + offset);
+    }//fim de getFloat()
+    
+    /**
+     * Le o campo como double. Valido para o tipo DOUBLE.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return O valor do campo.
+     */
+    /*[14]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public double getDouble(byte[] record, int recordOffset)
+    {
+        return (double)DOUBLE_VIEW.get(record, recordOffset + offset);
+    }//fim de getDouble()
+    
+    /*[15]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public String toString()
+    {
+        return type + "@" + offset;
+    }//fim de toString()
+    
+}//fim da classe RecordField
@@ -0,0 +1,160 @@
+/*
+Arquivo RecordFilter.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import java.util.function.DoublePredicate;
+import java.util.function.IntPredicate;
+import java.util.function.LongPredicate;
+
+
+/**
+ * Predicado testado diretamente sobre os bytes de um registro de um arquivo
+ * RandomAccessObjectFile, sem converter o registro em objeto. Usado por 
+ * {@link RandomAccessObjectFile#parallelScan(RecordFilter)}.
+ * <p>
+ * Os metodos static desta interface criam filtros sobre um campo descrito 
+ * por um objeto {@link RecordField}. Por exemplo, para selecionar os 
+ * registros de NewClass com d maior que 100:
+ * <pre>
+ * RecordField d = RecordField.locate(NewClass.class, "d", rf.recordLength());
+ * RecordFilter filter = RecordFilter.onDouble(d, v -&gt; v &gt; 100);
+ * List&lt;Object&gt; r = rf.parallelScan(filter);
+ * </pre>
+ * Os filtros podem ser chamados por varias threads simultaneamente e 
+ * portanto nao devem guardar estado.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+@FunctionalInterface
+public interface RecordFilter
+{
+    /**
+     * Testa um registro.
+     * 
+     * @param record Array contendo os bytes do registro.
+     * @param recordOffset A posicao do inicio do registro no array.
+     * 
+     * @return true se o registro deve ser selecionado.
+     */
+    boolean test(byte[] record, int recordOffset);
+    
+    /**
+     * Retorna um filtro que seleciona os registros selecionados por este 
+     * filtro e por other.
+     * 
+     * @param other Outro filtro.
+     * 
+     * @return O filtro combinado.
+     */
+    default RecordFilter and(RecordFilter other)
+    {
+        return (r, o) -> test(r, o) && other.test(r, o);
+    }//fim de and()
+    
+    /**
+     * Retorna um filtro que seleciona os registros selecionados por este 
+     * filtro ou por other.
+     * 
+     * @param other Outro filtro.
+     * 
+     * @return O filtro combinado.
+     */
+    default RecordFilter or(RecordFilter other)
+    {
+        return (r, o) -> test(r, o) || other.test(r, o);
+    }//fim de or()
+    
+    /**
+     * Retorna um filtro que seleciona os registros nao selecionados por este.
+     * 
+     * @return O filtro negado.
+     */
+    default RecordFilter negate()
+    {
+        return (r, o) -> !test(r, o);
+    }//fim de negate()
+    
+    /**
+     * Cria um filtro sobre um campo dos tipos BYTE, SHORT, CHAR ou INT.
+     * 
+     * @param field O campo.
+     * @param p O predicado aplicado ao valor do campo.
+     * 
+     * @return O filtro.
+     */
+    static RecordFilter onInt(RecordField field, IntPredicate p)
+    {
+        switch (field.type())
+        {
+            case BYTE:
+                return (r, o) -> p.test(field.getByte(r, o));
+            case SHORT:
+                return (r, o) -> p.test(field.getShort(r, o));
+            case CHAR:
+                return (r, o) -> p.test(field.getChar(r, o));
+            case INT:
+                return (r, o) -> p.test(field.getInt(r, o));
+            default:
+                throw new IllegalArgumentException("campo nao inteiro: " + 
+                                                   field);
+        }//fim do switch
+    }//fim de onInt()
+    
+    /**
+     * Cria um filtro sobre um campo do tipo LONG.
+     * 
+     * @param field O campo.
+     * @param p O predicado aplicado ao valor do campo.
+     * 
+     * @return O filtro.
+     */
+    static RecordFilter onLong(RecordField field, LongPredicate p)
+    {
+        if (field.type() != RecordField.Type.LONG)
+            throw new IllegalArgumentException("campo nao long: " + field);
+        
+        return (r, o) -> p.test(field.getLong(r, o));
+    }//fim de onLong()
+    
+    /**
+     * Cria um filtro sobre um campo dos tipos FLOAT ou DOUBLE.
+     * 
+     * @param field O campo.
+     * @param p O predicado aplicado ao valor do campo.
+     * 
+     * @return O filtro.
+     */
+    static RecordFilter onDouble(RecordField field, DoublePredicate p)
+    {
+        switch (field.type())
+        {
+            case FLOAT:
+                return (r, o) -> p.test(field.getFloat(r, o));
+            case DOUBLE:
+                return (r, o) -> p.test(field.getDouble(r, o));
+            default:
+                throw new IllegalArgumentException("campo nao real: " + 
+                                                   field);
+        }//fim do switch
+    }//fim de onDouble()
+    
+    /**
+     * Cria um filtro sobre um campo do tipo BOOLEAN.
+     * 
+     * @param field O campo.
+     * @param value O valor que o campo deve ter.
+     * 
+     * @return O filtro.
+     */
+    static RecordFilter onBoolean(RecordField field, boolean value)
+    {
+        if (field.type() != RecordField.Type.BOOLEAN)
+            throw new IllegalArgumentException("campo nao boolean: " + field);
+        
+        return (r, o) -> field.getBoolean(r, o) == value;
+    }//fim de onBoolean()
+    
+}//fim da interface RecordFilter
@@ -0,0 +1,580 @@
+/*
+Arquivo ShardedRandomAccessObjectFile.java criado a partir de 19 de outubro 
+de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.metrics.IoMetrics;
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntToLongFunction;
+
+
+/**
+ * Arquivo de acesso direto de objetos distribuido em varios arquivos 
+ * RandomAccessObjectFile, chamados de fatias, que podem estar em diretorios
+ * ou discos diferentes. As posicoes dos registros sao globais e distribuidas
+ * entre as fatias em rodizio: com n fatias, o registro da posicao p fica na
+ * fatia p % n, na posicao p / n desta fatia.
+ * <p>
+ * Os metodos {@link #readFile(long)}, {@link #writeFile(Object, long)} e 
+ * {@link #fileLength()} tem o mesmo comportamento dos metodos de 
+ * RandomAccessObjectFile, sobre o espaco global de posicoes. Os metodos 
+ * {@link #readFiles(long[])}, {@link #readRange(long, int)} e 
+ * {@link #writeFiles(Object[], long)} dividem um lote de registros entre as
+ * fatias e acessam todas as fatias em paralelo, uma thread por fatia, de 
+ * modo que a vazao cresce com o numero de discos.
+ * <p>
+ * Uma gravacao alem do fim do arquivo pode pular posicoes de outras fatias,
+ * que nao sao estendidas. A leitura de uma destas posicoes lanca 
+ * EOFException.
+ * <p>
+ * Os metodos desta classe podem ser chamados por varias threads 
+ * simultaneamente. Cada fatia eh acessada por uma thread de cada vez.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class ShardedRandomAccessObjectFile
+{
+    // tamanho maximo, em bytes, de cada leitura em bloco de readRange()
+    private static final int BLOCK_BYTES = 1 << 20;
+    
+    private final RandomAccessObjectFile[] shards;
+    private final int recordLength;
+    // posicao global onde serah gravado o proximo registro acrescentado
+    private final AtomicLong appendPos;
+    
+    private ExecutorService pool;
+    
+    private static enum State{CLOSE, OPEN};
+    private volatile State state;
+    
+    /**
+     * Constroi um objeto para gravar e ler registros distribuidos entre os 
+     * arquivos indicados. Os arquivos devem ser sempre passados na mesma 
+     * ordem, pois a ordem define em qual fatia fica cada registro.
+     * 
+     * @param files Os arquivos das fatias, que serao criados ou atualizados.
+     * @param recLength O tamanho em bytes de cada registro. Ver 
+     * {@link RandomAccessObjectFile#objectLength(java.lang.Object)}.
+     */
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public ShardedRandomAccessObjectFile(File[] files, int recLength)  
+    {
+        if (files.length == 0)
+            throw new IllegalArgumentException("nenhuma fatia informada");
+        
+        shards = new RandomAccessObjectFile[files.length];
+        for (int i = 0; i < files.length; i++)
+            shards[i] = new RandomAccessObjectFile(files[i], recLength);
+        recordLength = recLength;
+        appendPos = new AtomicLong(0);
+        state = State.CLOSE;
+    }//fim do construtor ShardedRandomAccessObjectFile()
+    
+    /**
+     * Abre todas as fatias para leitura e escrita.
+     * 
+     * @throws IOException 
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public synchronized void open()
+        throws IOException
+    {
+        if (isOpen()) return;
+        
+        try
+        {
+            for (RandomAccessObjectFile s : shards) s.open();
+        }
+        catch (IOException e)
+        {
+            for (RandomAccessObjectFile s : shards) s.close();
+            throw e;
+        }
+        
+        appendPos.set(lengthOfShards());
+        pool = Executors.newFixedThreadPool
+               (
+                   shards.length,
+                   r -> 
+                   {
+                       Thread t = new Thread(r, "raof-shard-io");
+                       t.setDaemon(true);
+                       return t;
+                   }
+               );
+        state = State.OPEN;
+    }//fim de open()
+    
+    /**
+     * Fecha todas as fatias.
+     * 
+     * @throws IOException 
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public synchronized void close()
+        throws IOException
+    {
+        if (!isOpen()) return;
+        
+        state = State.CLOSE;
+        pool.shutdown();
+        
+        IOException error = null;
+        for (RandomAccessObjectFile s : shards)
+        {
+            synchronized (s)
+            {
+                try
+                {
+                    s.close();
+                }
+                catch (IOException e)
+                {
+                    error = e;
+                }
+            }
+        }
+        if (error != null) throw error;
+    }//fim de close()
+    
+    /**
+     * Retorna true se o arquivo estiver aberto. False se nao.
+     * 
+     * @return Retorna true se o arquivo jah estiver aberto.
+     */
+    /*[03]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public boolean isOpen()
+    {
+        return state.equals(State.OPEN);
+    }//fim de isOpen()
+    
+    /*[04]----------------------------------------------------------------------
+    *   Calcula o tamanho global a partir dos tamanhos das fatias. O ultimo 
+    *   registro da fatia s, de tamanho len, tem posicao global 
+    *   (len - 1) * n + s.
+    --------------------------------------------------------------------------*/
+    private long lengthOfShards()
+    {
+        long length = 0;
+        for (int s = 0; s < shards.length; s++)
+        {
+            long len = shards[s].fileLength();
+            if (len > 0) 
+                length = Math.max(length, (len - 1) * shards.length + s + 1);
+        }
+        return length;
+    }//fim de lengthOfShards()
+    
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private RandomAccessObjectFile shardOf(long pos)
+    {
+        return shards[(int)(pos % shards.length)];
+    }//fim de shardOf()
+    
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private int localPos(long pos)
+    {
+        return Math.toIntExact(pos / shards.length);
+    }//fim de localPos()
+    
+    /**
+     * Le o registro na posicao global indicada. 
+     * 
+     * @param pos A posicao do registro a ser lido.
+     * 
+     * @return O objeto lido do registro, ou null se o arquivo nao estiver 
+     * aberto.
+     * 
+     * @throws EOFException Se a fatia do registro nao chega ate ele. Ocorre
+     * com posicoes puladas por gravacoes alem do fim do arquivo.
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public Object readFile(long pos)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return null;
+        
+        RandomAccessObjectFile s = shardOf(pos);
+        synchronized (s)
+        {
+            return readRecord(s, localPos(pos));
+        }
+    }//fim de readFile()
+    
+    /*[08]----------------------------------------------------------------------
+    *   Le um registro de uma fatia. Diferente de 
+    *   RandomAccessObjectFile.readFile(), lanca EOFException se a fatia 
+    *   terminar antes do registro, em vez de converter bytes de uma leitura
+    *   anterior.
+    --------------------------------------------------------------------------*/
+    private static Object readRecord(RandomAccessObjectFile shard, int pos)
+        throws IOException, ClassNotFoundException
+    {
+        Object[] record = shard.readRecords(pos, 1);
+        if (record == null)
+            throw new IOException(shard.file().getName() + " nao esta aberto");
+        return record[0];
+    }//fim de readRecord()
+    
+    /**
+     * Grava um registro na posicao global indicada. Se a posicao for 
+     * negativa o registro eh acrescentado no fim do arquivo.
+     * 
+     * @param obj O objeto a ser gravado. 
+     * @param pos A posicao onde serah gravado o registro.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[09]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void writeFile(Object obj, long pos)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return;
+        
+        long p = allocate(pos, 1);
+        RandomAccessObjectFile s = shardOf(p);
+        synchronized (s)
+        {
+            s.writeFile(obj, localPos(p));
+        }
+    }//fim de writeFile()
+    
+    /*[10]----------------------------------------------------------------------
+    *   Retorna a posicao inicial de count registros: a posicao pedida, ou o
+    *   fim do arquivo se ela for negativa. Atualiza o fim do arquivo.
+    --------------------------------------------------------------------------*/
+    private long allocate(long pos, int count)
+    {
+        if (pos < 0) return appendPos.getAndAdd(count);
+        
+        appendPos.accumulateAndGet(pos + count, Math::max);
+        return pos;
+    }//fim de allocate()
+    
+    /**
+     * Le os registros das posicoes globais indicadas, acessando as fatias em
+     * paralelo. Em cada fatia os registros sao lidos em ordem crescente de
+     * posicao.
+     * 
+     * @param positions As posicoes dos registros.
+     * 
+     * @return Os objetos lidos, na ordem de positions, ou null se o arquivo
+     * nao estiver aberto.
+     * 
+     * @throws EOFException Se a fatia de algum registro nao chega ate ele.
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[11]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public Object[] readFiles(long[] positions)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return null;
+        
+        Object[] result = new Object[positions.length];
+        List<List<Integer>> groups = groupByShard(positions.length, 
+                                                  i -> positions[i]);
+        
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int s = 0; s < shards.length; s++)
+        {
+            List<Integer> group = groups.get(s);
+            if (group.isEmpty()) continue;
+            
+            RandomAccessObjectFile shard = shards[s];
+            group.sort((a, b) -> Long.compare(positions[a], positions[b]));
+            tasks.add
+            (
+                pool.submit
+                (
+                    () -> 
+                    {
+                        synchronized (shard)
+                        {
+                            for (int i : group)
+                                result[i] = readRecord
+                                            (
+                                                shard, localPos(positions[i])
+                                            );
+                        }
+                        return null;
+                    }
+                )
+            );
+        }
+        for (Future<?> t : tasks) await(t);
+        
+        return result;
+    }//fim de readFiles()
+    
+    /**
+     * Le count registros consecutivos a partir da posicao global first, 
+     * acessando as fatias em paralelo. Os registros do intervalo que estao em
+     * uma mesma fatia sao consecutivos nesta fatia e sao lidos em blocos, 
+     * com uma unica leitura por bloco.
+     * 
+     * @param first A posicao do primeiro registro.
+     * @param count Quantos registros ler.
+     * 
+     * @return Os objetos lidos, ou null se o arquivo nao estiver aberto.
+     * 
+     * @throws EOFException Se a fatia de algum registro nao chega ate ele.
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[12]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public Object[] readRange(long first, int count)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return null;
+        
+        int n = shards.length;
+        Object[] result = new Object[count];
+        int maxBlock = Math.max(1, BLOCK_BYTES / recordLength);
+        
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int s = 0; s < n; s++)
+        {
+            // indice em result do primeiro registro do intervalo na fatia s
+            int start = (int)(((s - first % n) % n + n) % n);
+            if (start >= count) continue;
+            
+            int records = (count - start + n - 1) / n;
+            int local = localPos(first + start);
+            RandomAccessObjectFile shard = shards[s];
+            tasks.add
+            (
+                pool.submit
+                (
+                    () -> 
+                    {
+                        synchronized (shard)
+                        {
+                            for (int done = 0; done < records; )
+                            {
+                                int m = Math.min(maxBlock, records - done);
+                                Object[] block = shard.readRecords
+                                                 (
+                                                     local + done, m
+                                                 );
+                                if (block == null) 
+                                    throw new IOException
+                                              (
+                                                  shard.file().getName() +
+                                                  " nao esta aberto"
+                                              );
+                                for (int j = 0; j < m; j++)
+                                    result[start + (done + j) * n] = block[j];
+                                done += m;
+                            }
+                        }
+                        return null;
+                    }
+                )
+            );
+        }
+        for (Future<?> t : tasks) await(t);
+        
+        return result;
+    }//fim de readRange()
+    
+    /**
+     * Grava os objetos em posicoes globais consecutivas a partir de first,
+     * acessando as fatias em paralelo. Se first for negativo os registros sao
+     * acrescentados no fim do arquivo.
+     * 
+     * @param objs Os objetos a serem gravados.
+     * @param first A posicao do primeiro registro.
+     * 
+     * @return A posicao onde foi gravado o primeiro registro, ou -1 se o 
+     * arquivo nao estiver aberto.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[13]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long writeFiles(Object[] objs, long first)
+        throws IOException, ClassNotFoundException
+    {
+        if (!isOpen()) return -1;
+        
+        long p = allocate(first, objs.length);
+        List<List<Integer>> groups = groupByShard(objs.length, i -> p + i);
+        
+        List<Future<?>> tasks = new ArrayList<>();
+        for (int s = 0; s < shards.length; s++)
+        {
+            List<Integer> group = groups.get(s);
+            if (group.isEmpty()) continue;
+            
+            RandomAccessObjectFile shard = shards[s];
+            tasks.add
+            (
+                pool.submit
+                (
+                    () -> 
+                    {
+                        synchronized (shard)
+                        {
+                            for (int i : group)
+                                shard.writeFile(objs[i], localPos(p + i));
+                        }
+                        return null;
+                    }
+                )
+            );
+        }
+        for (Future<?> t : tasks) await(t);
+        
+        return p;
+    }//fim de writeFiles()
+    
+    /*[14]----------------------------------------------------------------------
+    *   Separa os indices 0..count-1 por fatia, segundo a posicao global de 
+    *   cada indice.
+    --------------------------------------------------------------------------*/
+    private List<List<Integer>> groupByShard
+    (
+        int count, 
+        IntToLongFunction position
+    )
+    {
+        List<List<Integer>> groups = new ArrayList<>(shards.length);
+        for (int s = 0; s < shards.length; s++) groups.add(new ArrayList<>());
+        for (int i = 0; i < count; i++)
+            groups.get((int)(position.applyAsLong(i) % shards.length)).add(i);
+        return groups;
+    }//fim de groupByShard()
+    
+    /*[15]----------------------------------------------------------------------
+    *   Espera o termino de uma tarefa, relancando a excecao que ela lancou
+    --------------------------------------------------------------------------*/
+    private static void await(Future<?> task)
+        throws IOException, ClassNotFoundException
+    {
+        try
+        {
+            task.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Operacao interrompida");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException)c;
+            if (c instanceof ClassNotFoundException) 
+                throw (ClassNotFoundException)c;
+            if (c instanceof RuntimeException) throw (RuntimeException)c;
+            throw new IOException(c);
+        }
+    }//fim de await()
+    
+    /**
+     * Retorna o tamanho do arquivo em registros, considerando todas as 
+     * fatias.
+     * 
+     * @return Quantos registros ha no arquivo. Incluindo os registros em 
+     * branco.
+     */
+    /*[16]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long fileLength()
+    {
+        return isOpen() ? appendPos.get() : lengthOfShards();
+    }//fim de fileLength()
+    
+    /**
+     * Retorna o tamanho do registro em bytes.
+     * 
+     * @return O tamanho em bytes do registro.
+     */
+    /*[17]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int recordLength()
+    {
+        return recordLength;
+    }//fim de recordLength()
+    
+    /**
+     * Retorna o numero de fatias.
+     * 
+     * @return O numero de fatias.
+     */
+    /*[18]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public int shardCount()
+    {
+        return shards.length;
+    }//fim de shardCount()
+    
+    /**
+     * Associa um coletor de metricas a todas as fatias. Para desativar a 
+     * coleta passe {@link IoMetricsRecorder#DISABLED}, que eh o coletor 
+     * padrao.
+     * 
+     * @param recorder O coletor.
+     */
+    /*[19]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void setMetrics(IoMetricsRecorder recorder)
+    {
+        for (RandomAccessObjectFile s : shards) s.setMetrics(recorder);
+    }//fim de setMetrics()
+    
+    /**
+     * Retorna as metricas de IO coletadas para as fatias.
+     * 
+     * @return O coletor associado as fatias.
+     */
+    /*[20]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public IoMetrics getMetrics()
+    {
+        return shards[0].getMetrics();
+    }//fim de getMetrics()
+    
+}//fim da classe ShardedRandomAccessObjectFile
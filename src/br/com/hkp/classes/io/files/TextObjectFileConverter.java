@@ -0,0 +1,427 @@
+/*
+Arquivo TextObjectFileConverter.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files;
+
+import br.com.hkp.classes.io.files.textfiles.TextFile;
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+
+/**
+ * Conversao em massa entre arquivos texto (TextFile) e arquivos de objetos
+ * (RandomAccessObjectFile), nos dois sentidos.
+ * <p>
+ * A conversao eh feita em tres estagios ligados por uma fila limitada: uma 
+ * thread le o arquivo de origem em lotes, um pool de threads converte os 
+ * lotes (interpreta as linhas e serializa os objetos, ou converte os 
+ * registros e formata as linhas) e a thread que chamou o metodo grava os 
+ * lotes no arquivo de destino. A fila guarda os lotes na ordem de leitura, 
+ * portanto a ordem dos registros eh preservada, e o seu limite impede que a
+ * leitura se adiante demais da gravacao.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TextObjectFileConverter
+{
+    // quantas linhas ou registros formam um lote
+    private static final int BATCH = 1024;
+    
+    /*
+     * Le o proximo lote da origem. Retorna null no fim.
+     */
+    @FunctionalInterface
+    private static interface Source<T>
+    {
+        T next() throws IOException;
+    }
+    
+    /*
+     * Converte um lote.
+     */
+    @FunctionalInterface
+    private static interface Stage<T, R>
+    {
+        R apply(T batch) throws Exception;
+    }
+    
+    /*
+     * Grava um lote convertido no destino.
+     */
+    @FunctionalInterface
+    private static interface Sink<R>
+    {
+        void accept(R result) throws IOException;
+    }
+    
+    /*
+     * Lote de registros serializados.
+     */
+    private static final class Records
+    {
+        final byte[] bytes;
+        final int count;
+        
+        Records(byte[] bytes, int count)
+        {
+            this.bytes = bytes;
+            this.count = count;
+        }
+    }//fim da classe Records
+    
+    /*
+     * Lote de linhas formatadas, jah com os separadores de linha.
+     */
+    private static final class Lines
+    {
+        final String text;
+        final int count;
+        
+        Lines(String text, int count)
+        {
+            this.text = text;
+            this.count = count;
+        }
+    }//fim da classe Lines
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private TextObjectFileConverter()
+    {
+    }//fim do construtor TextObjectFileConverter()
+    
+    /**
+     * Acrescenta no arquivo de objetos out um registro para cada linha do 
+     * arquivo texto in. Cada linha eh convertida em objeto pelo parser. O 
+     * arquivo in eh lido diretamente, com o charset padrao, e nao deve estar
+     * aberto para gravacao. O arquivo out eh aberto se estiver fechado, e 
+     * neste caso fechado ao final.
+     * 
+     * @param in O arquivo texto de origem.
+     * @param out O arquivo de objetos de destino.
+     * @param parser Converte uma linha no objeto a ser gravado. Eh chamado 
+     * por varias threads simultaneamente. Todos os objetos devem ter o 
+     * tamanho de registro de out.
+     * @param threads Quantas threads executam o parser.
+     * 
+     * @return Quantos registros foram gravados.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     */
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static long importText
+    (
+        TextFile in,
+        RandomAccessObjectFile out,
+        Function<String, ?> parser,
+        int threads
+    )
+        throws IOException, ClassNotFoundException
+    {
+        boolean opened = !out.isOpen();
+        if (opened) out.open();
+        
+        int recordLength = out.recordLength();
+        long[] count = new long[1];
+        
+        try 
+        (
+            BufferedReader reader = new BufferedReader
+                                    (
+                                        new InputStreamReader
+                                        (
+                                            new FileInputStream(in.getFile()),
+                                            Charset.defaultCharset()
+                                        ),
+                                        1 << 16
+                                    )
+        )
+        {
+            Source<List<String>> source = () ->
+            {
+                List<String> batch = new ArrayList<>(BATCH);
+                String line;
+                while (batch.size() < BATCH && 
+                       (line = reader.readLine()) != null) 
+                    batch.add(line);
+                return batch.isEmpty() ? null : batch;
+            };
+            
+            Stage<List<String>, Records> stage = batch ->
+            {
+                byte[] bytes = new byte[batch.size() * recordLength];
+                int off = 0;
+                for (String line : batch)
+                {
+                    byte[] r = RandomAccessObjectFile.objectToBytes
+                               (
+                                   parser.apply(line)
+                               );
+                    if (r.length != recordLength)
+                        throw new IOException
+                                  (
+                                      "registro de " + r.length + " bytes " +
+                                      "em arquivo com registros de " + 
+                                      recordLength + " bytes: " + line
+                                  );
+                    System.arraycopy(r, 0, bytes, off, recordLength);
+                    off += recordLength;
+                }
+                return new Records(bytes, batch.size());
+            };
+            
+            Sink<Records> sink = r ->
+            {
+                out.appendRecords(r.bytes, r.count * recordLength);
+                count[0] += r.count;
+            };
+            
+            pipeline(source, stage, sink, threads);
+        }
+        finally
+        {
+            if (opened) out.close();
+        }
+        
+        return count[0];
+    }//fim de importText()
+    
+    /**
+     * Grava no arquivo texto out uma linha para cada registro do arquivo de
+     * objetos in. Cada objeto eh convertido em linha pelo formatter, e a 
+     * linha eh gravada seguida do separador de linhas do sistema. Se out 
+     * estiver fechado eh aberto para gravacao, com buffer e apagando o 
+     * conteudo anterior, e fechado ao final. Se jah estiver aberto para 
+     * gravacao as linhas sao acrescentadas.
+     * 
+     * @param in O arquivo de objetos de origem. Nao precisa estar aberto.
+     * @param out O arquivo texto de destino.
+     * @param formatter Converte um objeto na linha a ser gravada. Eh chamado
+     * por varias threads simultaneamente.
+     * @param threads Quantas threads executam o formatter.
+     * 
+     * @return Quantas linhas foram gravadas.
+     * 
+     * @throws IOException
+     * @throws ClassNotFoundException 
+     * @throws IllegalStateException Se out estiver aberto para leitura.
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static long exportText
+    (
+        RandomAccessObjectFile in,
+        TextFile out,
+        Function<Object, String> formatter,
+        int threads
+    )
+        throws IOException, ClassNotFoundException
+    {
+        if (out.getFileStatus() == TextFile.READ)
+            throw new IllegalStateException
+                      (
+                          out.getFile().getName() + " aberto para leitura"
+                      );
+        
+        boolean opened = out.getFileStatus() == TextFile.CLOSE;
+        if (opened) out.openToWrite(false, true);
+        
+        int recordLength = in.recordLength();
+        String separator = System.lineSeparator();
+        long[] count = new long[1];
+        
+        try 
+        (
+            FileChannel channel = FileChannel.open
+                                  (
+                                      in.file().toPath(), 
+                                      StandardOpenOption.READ
+                                  )
+        )
+        {
+            long end = channel.size() / recordLength * recordLength;
+            long[] position = new long[1];
+            
+            Source<Records> source = () ->
+            {
+                int n = (int)Math.min
+                        (
+                            BATCH, (end - position[0]) / recordLength
+                        );
+                if (n == 0) return null;
+                
+                ByteBuffer buffer = ByteBuffer.allocate(n * recordLength);
+                while (buffer.hasRemaining())
+                {
+                    long offset = position[0] + buffer.position();
+                    if (channel.read(buffer, offset) < 0)
+                        throw new EOFException("Fim inesperado de " + 
+                                               in.file().getName());
+                }
+                position[0] += buffer.capacity();
+                return new Records(buffer.array(), n);
+            };
+            
+            Stage<Records, Lines> stage = r ->
+            {
+                StringBuilder sb = new StringBuilder();
+                for (int i = 0; i < r.count; i++)
+                {
+                    Object obj = RandomAccessObjectFile.bytesToObject
+                                 (
+                                     r.bytes, i * recordLength, recordLength
+                                 );
+                    sb.append(formatter.apply(obj)).append(separator);
+                }
+                return new Lines(sb.toString(), r.count);
+            };
+            
+            Sink<Lines> sink = l ->
+            {
+                out.write(l.text);
+                count[0] += l.count;
+            };
+            
+            pipeline(source, stage, sink, threads);
+            out.flushWriteBuffer();
+        }
+        finally
+        {
+            if (opened) out.close();
+        }
+        
+        return count[0];
+    }//fim de exportText()
+    
+    /*[03]----------------------------------------------------------------------
+    *   Executa os tres estagios. Uma thread le os lotes da origem e entrega 
+    *   cada um ao pool, colocando o Future do resultado na fila. A thread 
+    *   corrente retira os Futures da fila na ordem e grava os resultados.
+    --------------------------------------------------------------------------*/
+    private static <T, R> void pipeline
+    (
+        Source<T> source,
+        Stage<T, R> stage,
+        Sink<R> sink,
+        int threads
+    )
+        throws IOException, ClassNotFoundException
+    {
+        if (threads < 1)
+            throw new IllegalArgumentException
+                      (
+                          "threads deve ser positivo: " + threads
+                      );
+        
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+        BlockingQueue<Future<R>> queue = new ArrayBlockingQueue<>(2 * threads);
+        // marca o fim da leitura na fila
+        Future<R> end = CompletableFuture.completedFuture(null);
+        // excecao lancada pela thread de leitura
+        Exception[] readError = new Exception[1];
+        
+        Thread reader = new Thread
+        (
+            () ->
+            {
+                try
+                {
+                    T batch;
+                    while ((batch = source.next()) != null)
+                    {
+                        final T b = batch;
+                        queue.put(workers.submit(() -> stage.apply(b)));
+                    }
+                    queue.put(end);
+                }
+                catch (InterruptedException e)
+                {
+                    // a gravacao falhou e a leitura foi cancelada
+                }
+                catch (IOException | RuntimeException e)
+                {
+                    readError[0] = e;
+                    try
+                    {
+                        queue.put(end);
+                    }
+                    catch (InterruptedException ie)
+                    {
+                        // a gravacao tambem falhou
+                    }
+                }
+            },
+            "converter-reader"
+        );
+        reader.setDaemon(true);
+        reader.start();
+        
+        try
+        {
+            while (true)
+            {
+                Future<R> f = queue.take();
+                if (f == end) break;
+                sink.accept(await(f));
+            }
+            
+            reader.join();
+            if (readError[0] instanceof IOException) 
+                throw (IOException)readError[0];
+            if (readError[0] != null) 
+                throw (RuntimeException)readError[0];
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Conversao interrompida");
+        }
+        finally
+        {
+            reader.interrupt();
+            workers.shutdownNow();
+        }
+    }//fim de pipeline()
+    
+    /*[04]----------------------------------------------------------------------
+    *   Espera o resultado de um lote, relancando a excecao do estagio
+    --------------------------------------------------------------------------*/
+    private static <R> R await(Future<R> f)
+        throws IOException, ClassNotFoundException, InterruptedException
+    {
+        try
+        {
+            return f.get();
+        }
+        catch (ExecutionException e)
+        {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException)c;
+            if (c instanceof ClassNotFoundException) 
+                throw (ClassNotFoundException)c;
+            if (c instanceof RuntimeException) throw (RuntimeException)c;
+            throw new IOException(c);
+        }
+    }//fim de await()
+    
+}//fim da classe TextObjectFileConverter
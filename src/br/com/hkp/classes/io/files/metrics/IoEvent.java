@@ -0,0 +1,45 @@
+/*
+Arquivo IoEvent.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+/**
+ * Evento do JDK Flight Recorder gerado a cada operacao instrumentada quando
+ * o coletor de metricas esta ativo e o evento esta habilitado na gravacao
+ * do JFR (br.com.hkp.io.Operation).
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+@Name("br.com.hkp.io.Operation")
+@Label("IoPackages Operation")
+@Category({"IoPackages", "File I/O"})
+@Description("Operacao de IO em RandomAccessObjectFile ou TextFile")
+@StackTrace(false)
+final class IoEvent extends Event
+{
+    @Label("Operation")
+    String operation;
+    
+    @Label("Path")
+    String path;
+    
+    @Label("Bytes")
+    @DataAmount
+    long bytes;
+    
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+    
+}//fim da classe IoEvent
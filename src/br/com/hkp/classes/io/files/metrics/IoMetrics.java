@@ -0,0 +1,78 @@
+/*
+Arquivo IoMetrics.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.metrics;
+
+/**
+ * Interface de consulta das metricas de IO coletadas pelas classes 
+ * RandomAccessObjectFile e TextFile. 
+ * <p>
+ * Os valores sao acumulados desde a criacao do coletor ou desde a ultima 
+ * chamada de {@link IoMetricsRecorder#reset()}.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public interface IoMetrics
+{
+    /**
+     * Indica se as metricas estao sendo coletadas.
+     * 
+     * @return true se a coleta estiver ativa.
+     */
+    boolean isEnabled();
+    
+    /**
+     * Retorna quantas vezes a operacao foi executada.
+     * 
+     * @param op A operacao.
+     * 
+     * @return O numero de execucoes.
+     */
+    long count(IoOperation op);
+    
+    /**
+     * Retorna o tempo total gasto na operacao.
+     * 
+     * @param op A operacao.
+     * 
+     * @return O tempo total em nanossegundos.
+     */
+    long totalNanos(IoOperation op);
+    
+    /**
+     * Retorna o histograma de latencias da operacao.
+     * 
+     * @param op A operacao.
+     * 
+     * @return O histograma.
+     */
+    LatencyHistogram latency(IoOperation op);
+    
+    /**
+     * Retorna o total de bytes lidos. Para TextFile conta-se os bytes das
+     * linhas lidas no charset padrao, sem o terminador de linha.
+     * 
+     * @return O total de bytes lidos.
+     */
+    long bytesRead();
+    
+    /**
+     * Retorna o total de bytes gravados. Para TextFile conta-se os bytes das
+     * linhas gravadas no charset padrao.
+     * 
+     * @return O total de bytes gravados.
+     */
+    long bytesWritten();
+    
+    /**
+     * Retorna quantas gravacoes de TextFile foram feitas em um arquivo aberto
+     * com buffer, isto eh, gravacoes que em geral nao chegam ao sistema 
+     * operacional antes de um flush ou de o buffer encher.
+     * 
+     * @return O numero de gravacoes bufferizadas.
+     */
+    long bufferedWrites();
+    
+}//fim da interface IoMetrics
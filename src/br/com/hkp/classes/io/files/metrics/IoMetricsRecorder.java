@@ -0,0 +1,260 @@
+/*
+Arquivo IoMetricsRecorder.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.metrics;
+
+import java.util.EnumMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coletor de metricas de IO. Um objeto desta classe pode ser associado a um
+ * ou mais objetos RandomAccessObjectFile ou TextFile atraves do metodo 
+ * setMetrics() destas classes, e pode ser consultado atraves da interface
+ * {@link IoMetrics}.
+ * <p>
+ * Quando ativo, cada operacao instrumentada tambem gera um evento do JDK
+ * Flight Recorder, se o evento br.com.hkp.io.Operation estiver habilitado na
+ * gravacao.
+ * <p>
+ * O coletor {@link #DISABLED} eh usado por padrao. Com ele cada operacao
+ * instrumentada custa apenas o teste de um campo final, sem leitura do 
+ * relogio nem atualizacao de contadores. Os metodos desta classe podem ser
+ * chamados por varias threads simultaneamente.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class IoMetricsRecorder implements IoMetrics
+{
+    /**
+     * Coletor inativo. Nao registra nada e todas as suas metricas sao 0.
+     */
+    public static final IoMetricsRecorder DISABLED = 
+        new IoMetricsRecorder(false);
+    
+    private final boolean enabled;
+    private final EnumMap<IoOperation, LongAdder> counts;
+    private final EnumMap<IoOperation, LongAdder> nanos;
+    private final EnumMap<IoOperation, LatencyHistogram> histograms;
+    private final LongAdder bytesRead;
+    private final LongAdder bytesWritten;
+    private final LongAdder bufferedWrites;
+    
+    /**
+     * Constroi um coletor ativo.
+     */
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public IoMetricsRecorder()
+    {
+        this(true);
+    }//fim do construtor IoMetricsRecorder()
+    
+    /*[01]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    private IoMetricsRecorder(boolean enabled)
+    {
+        this.enabled = enabled;
+        counts = new EnumMap<>(IoOperation.class);
+        nanos = new EnumMap<>(IoOperation.class);
+        histograms = new EnumMap<>(IoOperation.class);
+        for (IoOperation op : IoOperation.values())
+        {
+            counts.put(op, new LongAdder());
+            nanos.put(op, new LongAdder());
+            histograms.put(op, new LatencyHistogram());
+        }
+        bytesRead = new LongAdder();
+        bytesWritten = new LongAdder();
+        bufferedWrites = new LongAdder();
+    }//fim do construtor IoMetricsRecorder()
+    
+    /**
+     * Marca o inicio de uma operacao instrumentada.
+     * 
+     * @return O instante inicial em nanossegundos, a ser passado para
+     * {@link #record(IoOperation, long, long, String)}. 0 se o coletor 
+     * estiver inativo.
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long start()
+    {
+        return enabled ? System.nanoTime() : 0L;
+    }//fim de start()
+    
+    /**
+     * Registra o fim de uma operacao instrumentada. Nao faz nada se o coletor
+     * estiver inativo.
+     * 
+     * @param op A operacao.
+     * @param start O valor retornado por {@link #start()} no inicio da 
+     * operacao.
+     * @param bytes Quantos bytes foram lidos ou gravados pela operacao.
+     * @param path O caminho do arquivo, usado apenas no evento do JFR.
+     */
+    /*[03]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void record(IoOperation op, long start, long bytes, String path)
+    {
+        if (!enabled) return;
+        
+        long elapsed = System.nanoTime() - start;
+        
+        counts.get(op).increment();
+        nanos.get(op).add(elapsed);
+        histograms.get(op).record(elapsed);
+        
+        switch (op)
+        {
+            case READ_FILE:
+            case READLN:
+                bytesRead.add(bytes);
+                break;
+            case WRITE_FILE:
+            case WRITE:
+                bytesWritten.add(bytes);
+                break;
+            default:
+                break;
+        }
+        
+        IoEvent event = new IoEvent();
+        if (event.shouldCommit())
+        {
+            event.operation = op.name();
+            event.path = path;
+            event.bytes = bytes;
+            event.elapsed = elapsed;
+            event.commit();
+        }
+    }//fim de record()
+    
+    /**
+     * Conta uma gravacao feita em um arquivo texto aberto com buffer. Nao faz
+     * nada se o coletor estiver inativo.
+     */
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void recordBufferedWrite()
+    {
+        if (enabled) bufferedWrites.increment();
+    }//fim de recordBufferedWrite()
+    
+    /**
+     * Zera todas as metricas.
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public void reset()
+    {
+        for (IoOperation op : IoOperation.values())
+        {
+            counts.get(op).reset();
+            nanos.get(op).reset();
+            histograms.get(op).reset();
+        }
+        bytesRead.reset();
+        bytesWritten.reset();
+        bufferedWrites.reset();
+    }//fim de reset()
+    
+    /*[06]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public boolean isEnabled()
+    {
+        return enabled;
+    }//fim de isEnabled()
+    
+    /*[07]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public long count(IoOperation op)
+    {
+        return counts.get(op).sum();
+    }//fim de count()
+    
+    /*[08]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public long totalNanos(IoOperation op)
+    {
+        return nanos.get(op).sum();
+    }//fim de totalNanos()
+    
+    /*[09]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public LatencyHistogram latency(IoOperation op)
+    {
+        return histograms.get(op);
+    }//fim de latency()
+    
+    /*[10]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public long bytesRead()
+    {
+        return bytesRead.sum();
+    }//fim de bytesRead()
+    
+    /*[11]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public long bytesWritten()
+    {
+        return bytesWritten.sum();
+    }//fim de bytesWritten()
+    
+    /*[12]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    @Override
+    public long bufferedWrites()
+    {
+        return bufferedWrites.sum();
+    }//fim de bufferedWrites()
+    
+    /*[13]----------------------------------------------------------------------
+    *               Retorna um resumo das metricas em texto
+    --------------------------------------------------------------------------*/
+    @Override
+    public String toString()
+    {
+        StringBuilder sb = new StringBuilder();
+        for (IoOperation op : IoOperation.values())
+        {
+            long n = count(op);
+            if (n == 0) continue;
+            LatencyHistogram h = latency(op);
+            sb.append(String.format
+                      (
+                          "%-18s n=%d total=%dns p50<%dns p99<%dns%n",
+                          op, n, totalNanos(op), 
+                          h.percentile(50), h.percentile(99)
+                      ));
+        }
+        sb.append(String.format
+                  (
+                      "bytes lidos=%d bytes gravados=%d gravacoes " +
+                      "bufferizadas=%d",
+                      bytesRead(), bytesWritten(), bufferedWrites()
+                  ));
+        return sb.toString();
+    }//fim de toString()
+    
+}//fim da classe IoMetricsRecorder
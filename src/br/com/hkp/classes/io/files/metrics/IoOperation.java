@@ -0,0 +1,48 @@
+/*
+Arquivo IoOperation.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.metrics;
+
+/**
+ * Enumera as operacoes instrumentadas nas classes de arquivo deste pacote.
+ * <p>
+ * As operacoes READ_FILE e WRITE_FILE medem apenas o tempo gasto nas 
+ * chamadas de IO (seek, read e write). O tempo de conversao entre objeto e
+ * array de bytes eh medido separadamente em SERIALIZE e DESERIALIZE.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public enum IoOperation
+{
+    /**
+     * Leitura de um registro com RandomAccessObjectFile.readFile().
+     */
+    READ_FILE,
+    /**
+     * Gravacao de um registro com RandomAccessObjectFile.writeFile().
+     */
+    WRITE_FILE,
+    /**
+     * Conversao de um objeto em array de bytes.
+     */
+    SERIALIZE,
+    /**
+     * Conversao de um array de bytes em objeto.
+     */
+    DESERIALIZE,
+    /**
+     * Leitura de uma linha com TextFile.readln().
+     */
+    READLN,
+    /**
+     * Gravacao de uma linha com TextFile.write().
+     */
+    WRITE,
+    /**
+     * Descarga do buffer de gravacao com TextFile.flushWriteBuffer().
+     */
+    FLUSH_WRITE_BUFFER
+    
+}//fim do enum IoOperation
@@ -0,0 +1,133 @@
+/*
+Arquivo LatencyHistogram.java criado a partir de 19 de outubro de 2026.
+*/
+package br.com.hkp.classes.io.files.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Histograma de latencias em nanossegundos com faixas em potencias de 2. A 
+ * faixa i conta as amostras com latencia no intervalo [2^(i-1), 2^i). A faixa
+ * 0 conta as amostras com latencia 0.
+ * <p>
+ * Os metodos desta classe podem ser chamados por varias threads 
+ * simultaneamente.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class LatencyHistogram
+{
+    /**
+     * O numero de faixas do histograma.
+     */
+    public static final int BUCKETS = 64;
+    
+    private final AtomicLongArray buckets;
+    
+    /*[00]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    LatencyHistogram()
+    {
+        buckets = new AtomicLongArray(BUCKETS);
+    }//fim do construtor LatencyHistogram()
+    
+    /*[01]----------------------------------------------------------------------
+    *               Registra uma amostra de latencia no histograma
+    --------------------------------------------------------------------------*/
+    void record(long nanos)
+    {
+        int i = (nanos <= 0) ? 0 : 64 - Long.numberOfLeadingZeros(nanos);
+        buckets.incrementAndGet(Math.min(i, BUCKETS - 1));
+    }//fim de record()
+    
+    /**
+     * Retorna quantas amostras foram registradas em uma faixa.
+     * 
+     * @param bucket O indice da faixa, de 0 a {@link #BUCKETS} - 1.
+     * 
+     * @return O numero de amostras na faixa.
+     */
+    /*[02]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long bucketCount(int bucket)
+    {
+        return buckets.get(bucket);
+    }//fim de bucketCount()
+    
+    /**
+     * Retorna o limite superior, em nanossegundos, da faixa indicada.
+     * 
+     * @param bucket O indice da faixa.
+     * 
+     * @return O limite superior (exclusivo) da faixa.
+     */
+    /*[03]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public static long bucketUpperBound(int bucket)
+    {
+        return (bucket >= 63) ? Long.MAX_VALUE : 1L << bucket;
+    }//fim de bucketUpperBound()
+    
+    /**
+     * Retorna o total de amostras registradas.
+     * 
+     * @return O total de amostras.
+     */
+    /*[04]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long count()
+    {
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) total += buckets.get(i);
+        return total;
+    }//fim de count()
+    
+    /**
+     * Retorna uma estimativa do percentil indicado. O valor retornado eh o 
+     * limite superior da faixa onde cai o percentil, portanto eh uma 
+     * estimativa por excesso com erro de no maximo um fator 2.
+     * 
+     * @param p O percentil, entre 0.0 e 100.0.
+     * 
+     * @return A latencia estimada em nanossegundos. 0 se nao houver amostras.
+     */
+    /*[05]----------------------------------------------------------------------
+    *
+    --------------------------------------------------------------------------*/
+    public long percentile(double p)
+    {
+        long[] snapshot = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            snapshot[i] = buckets.get(i);
+            total += snapshot[i];
+        }
+        
+        if (total == 0) return 0;
+        
+        long rank = (long)Math.ceil(total * (p / 100.0));
+        long seen = 0;
+        for (int i = 0; i < BUCKETS; i++)
+        {
+            seen += snapshot[i];
+            if (seen >= rank && snapshot[i] > 0) return bucketUpperBound(i);
+        }
+        return bucketUpperBound(BUCKETS - 1);
+    }//fim de percentile()
+    
+    /*[06]----------------------------------------------------------------------
+    *                        Zera o histograma
+    --------------------------------------------------------------------------*/
+    void reset()
+    {
+        for (int i = 0; i < BUCKETS; i++) buckets.set(i, 0);
+    }//fim de reset()
+    
+}//fim da classe LatencyHistogram
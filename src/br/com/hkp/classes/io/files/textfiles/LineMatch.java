@@ -0,0 +1,86 @@
+/*
+arquivo LineMatch.java criado a partir de 19 de outubro de 2026
+*/
+package br.com.hkp.classes.io.files.textfiles;
+
+/**
+ * Uma linha de um arquivo texto encontrada por {@link TextFileSearcher}: o 
+ * numero da linha, a posicao em bytes do seu inicio no arquivo e o seu 
+ * conteudo, sem o terminador de linha.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class LineMatch
+{
+    private final long lineNumber;
+    private final long byteOffset;
+    private final String line;
+    
+    /*[01]----------------------------------------------------------------------
+    *                        Construtor da classe
+    *-------------------------------------------------------------------------*/
+    LineMatch(long lineNumber, long byteOffset, String line)
+    {
+        this.lineNumber = lineNumber;
+        this.byteOffset = byteOffset;
+        this.line = line;
+    }//fim de LineMatch()
+    
+    /*[02]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna o numero da linha. A primeira linha do arquivo eh a linha 1.
+     * 
+     * @return O numero da linha, ou -1 se a busca foi feita sem numeros de
+     * linha.
+     * 
+     * @since 1.0
+     */
+    public long lineNumber()
+    {
+        return lineNumber;
+    }//fim de lineNumber()
+    
+    /*[03]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna a posicao em bytes do inicio da linha no arquivo.
+     * 
+     * @return A posicao em bytes.
+     * 
+     * @since 1.0
+     */
+    public long byteOffset()
+    {
+        return byteOffset;
+    }//fim de byteOffset()
+    
+    /*[04]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna o conteudo da linha, sem o terminador de linha.
+     * 
+     * @return A linha.
+     * 
+     * @since 1.0
+     */
+    public String line()
+    {
+        return line;
+    }//fim de line()
+    
+    /*[05]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    @Override
+    public String toString()
+    {
+        return ((lineNumber < 0) ? byteOffset : lineNumber) + ":" + line;
+    }//fim de toString()
+    
+}//fim da classe LineMatch
@@ -8,9 +8,14 @@ import java.io.File;
 import java.io.FileWriter;
 import java.io.BufferedWriter;
 import java.util.Scanner;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.io.IOException;
 import java.io.FileNotFoundException;
 import java.util.NoSuchElementException;
+import br.com.hkp.classes.io.files.metrics.IoMetrics;
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
 
 /**
  * Esta classe fornece uma forma simplificada para criar, acessar e modificar
@@ -55,6 +60,16 @@ public class TextFile
     private Scanner in;
     // Os 3 possíveis estados assumidos pelo tipo enum Mode
     private Mode status;
+    // true se o arquivo foi aberto para gravacao com buffer
+    private boolean buffered;
+    // coletor de metricas de IO. Inativo por padrao.
+    private IoMetricsRecorder metrics = IoMetricsRecorder.DISABLED;
+    
+    /*
+    Charset usado por FileWriter e Scanner para gravar e ler o arquivo. Usado
+    para contar os bytes gravados e lidos nas metricas.
+    */
+    private static final Charset CHARSET = Charset.defaultCharset();
     
     /*[01]----------------------------------------------------------------------
     *                        Construtor da classe
@@ -140,6 +155,7 @@ public class TextFile
             else
                 out = new PrintWriterTextFile(fw);
             
+            buffered = buffer;
             status = Mode.WRITING;
         }
     }//fim de openToWrite()
@@ -197,8 +213,15 @@ public class TextFile
     {
         if ( status == Mode.WRITING )
         {
+            long t = metrics.start();
             out.print(textLine);
             checkWriteError("Erro ao gravar no arquivo ");
+            metrics.record
+            (
+                IoOperation.WRITE, t, encodedLength(textLine), 
+                textFile.getPath()
+            );
+            if (buffered) metrics.recordBufferedWrite();
         }
     }//fim de write()
      
@@ -235,7 +258,14 @@ public class TextFile
                         " nao foi aberto para leitura"
                      );
         
-        return in.nextLine();
+        long t = metrics.start();
+        String line = in.nextLine();
+        metrics.record
+        (
+            IoOperation.READLN, t, encodedLength(line), textFile.getPath()
+        );
+        
+        return line;
         
     }//fim de read()
     
@@ -277,8 +307,13 @@ public class TextFile
     {
         if ( status == Mode.WRITING )
         {
+            long t = metrics.start();
             out.flush();
             checkWriteError("Erro ao gravar no arquivo ");
+            metrics.record
+            (
+                IoOperation.FLUSH_WRITE_BUFFER, t, 0, textFile.getPath()
+            );
         }
         
     }//fim de flushWriteBuffer()
@@ -325,6 +360,137 @@ public class TextFile
         }//fim do switch
     }//fim de getFileStatus()
     
+    /*[11]----------------------------------------------------------------------
+    *               Associa um coletor de metricas ao arquivo
+    --------------------------------------------------------------------------*/
+    /**
+     * Associa um coletor de metricas a este arquivo. Para desativar a coleta
+     * passe {@link IoMetricsRecorder#DISABLED}, que eh o coletor padrao.
+     * 
+     * @param recorder O coletor. Pode ser compartilhado por varios arquivos.
+     * 
+     * @since 1.0
+     */
+    public void setMetrics(IoMetricsRecorder recorder)
+    {
+        metrics = (recorder == null) ? IoMetricsRecorder.DISABLED : recorder;
+    }//fim de setMetrics()
+    
+    /*[12]----------------------------------------------------------------------
+    *           Retorna as metricas de IO coletadas para o arquivo
+    --------------------------------------------------------------------------*/
+    /**
+     * Retorna as metricas de IO coletadas para este arquivo.
+     * 
+     * @return O coletor associado a este arquivo.
+     * 
+     * @since 1.0
+     */
+    public IoMetrics getMetrics()
+    {
+        return metrics;
+    }//fim de getMetrics()
+    
+    /*[13]----------------------------------------------------------------------
+    *    Retorna um leitor que acompanha as linhas acrescentadas ao arquivo
+    --------------------------------------------------------------------------*/
+    /**
+     * Retorna um leitor que entrega as linhas do arquivo a partir da posicao
+     * indicada e continua entregando as linhas que forem acrescentadas 
+     * depois, como o comando tail -f. Diferente de {@link #readln()}, que 
+     * para no fim do arquivo, o leitor retornado espera por novas linhas sem
+     * reler as que jah entregou. Ver {@link TextFileFollower}.
+     * <p>
+     * O leitor eh independente do estado deste objeto: o arquivo nao precisa
+     * estar aberto para leitura, e pode estar aberto para gravacao por este
+     * ou por outro objeto ou processo.
+     * 
+     * @param startOffset A posicao em bytes onde a leitura comeca. 0 para ler
+     * o arquivo desde o inicio, um valor negativo para entregar apenas as 
+     * linhas gravadas depois desta chamada, ou um valor retornado 
+     * anteriormente por {@link TextFileFollower#offset()} para retomar a 
+     * leitura.
+     * 
+     * @return O leitor. Deve ser fechado ao fim do uso.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    public TextFileFollower follow(long startOffset)
+        throws IOException
+    {
+        return new TextFileFollower(textFile, startOffset, metrics);
+    }//fim de follow()
+    
+    /*[14]----------------------------------------------------------------------
+    *                        Retorna o arquivo
+    --------------------------------------------------------------------------*/
+    /**
+     * Retorna o arquivo manipulado por este objeto.
+     * 
+     * @return O arquivo passado ao construtor.
+     * 
+     * @since 1.0
+     */
+    public File getFile()
+    {
+        return textFile;
+    }//fim de getFile()
+    
+    /*--------------------------------------------------------------------------
+    *     Retorna quantos bytes a string ocupa no arquivo, codificada com o 
+    *     charset padrao. Retorna 0 sem calcular nada se as metricas estiverem
+    *     desativadas.
+    --------------------------------------------------------------------------*/
+    private int encodedLength(String s)
+    {
+        if (!metrics.isEnabled()) return 0;
+        
+        if (CHARSET.equals(StandardCharsets.UTF_8))
+        {
+            int n = s.length();
+            int bytes = n;
+            for (int i = 0; i < n; i++)
+            {
+                char c = s.charAt(i);
+                if (c < 0x80) continue;
+                if (c < 0x800) 
+                    bytes += 1;
+                else if (Character.isHighSurrogate(c) && i + 1 < n &&
+                         Character.isLowSurrogate(s.charAt(i + 1)))
+                {
+                    // par de surrogates: 4 bytes para 2 chars
+                    bytes += 2;
+                    i++;
+                }
+                else if (!Character.isSurrogate(c))
+                    bytes += 2;
+                // surrogate isolado eh gravado como '?'
+            }
+            return bytes;
+        }
+        
+        if (CHARSET.newEncoder().maxBytesPerChar() == 1.0f)
+        {
+            // um byte por caractere, um so '?' por par de surrogates
+            int n = s.length();
+            int bytes = n;
+            for (int i = 0; i < n - 1; i++)
+            {
+                if (Character.isHighSurrogate(s.charAt(i)) &&
+                    Character.isLowSurrogate(s.charAt(i + 1)))
+                {
+                    bytes--;
+                    i++;
+                }
+            }
+            return bytes;
+        }
+        
+        return s.getBytes(CHARSET).length;
+    }//fim de encodedLength()
+    
     /*--------------------------------------------------------------------------
     *     Metodo privado usado por main() para escrever no arquivo e tratar
     *     excecoes
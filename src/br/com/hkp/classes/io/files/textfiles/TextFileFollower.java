@@ -0,0 +1,438 @@
+/*
+arquivo TextFileFollower.java criado a partir de 19 de outubro de 2026
+*/
+package br.com.hkp.classes.io.files.textfiles;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import br.com.hkp.classes.io.files.metrics.IoMetricsRecorder;
+import br.com.hkp.classes.io.files.metrics.IoOperation;
+
+/**
+ * Leitor que acompanha um arquivo texto que continua sendo gravado, como um
+ * arquivo de log, entregando as novas linhas a medida que sao acrescentadas.
+ * Objetos desta classe sao obtidos com {@link TextFile#follow(long)}.
+ * <p>
+ * O leitor guarda a posicao em bytes do inicio da proxima linha a ser 
+ * entregue, retornada por {@link #offset()}, e le do arquivo apenas os bytes
+ * acrescentados depois desta posicao. Uma linha soh eh entregue depois que o
+ * seu terminador de linha eh gravado. A espera por novas linhas usa 
+ * notificacoes de um WatchService no diretorio do arquivo e, como 
+ * alternativa, verifica o arquivo periodicamente, o que tambem cobre 
+ * sistemas de arquivos que nao geram notificacoes.
+ * <p>
+ * Se o arquivo for truncado, a leitura recomeca do inicio. Se o arquivo for
+ * rotacionado (renomeado ou apagado e recriado com o mesmo nome), as linhas
+ * restantes do arquivo antigo sao entregues e entao a leitura passa para o 
+ * inicio do novo arquivo. A rotacao eh detectada pela chave do arquivo no 
+ * sistema de arquivos (o inode, em sistemas Unix), quando disponivel.
+ * <p>
+ * As linhas sao separadas pelo caractere '\n', com um '\r' anterior 
+ * removido, e decodificadas com o charset padrao, como em TextFile. Por isso
+ * o charset deve ser compativel com ASCII, como UTF-8 ou ISO-8859-1. Um 
+ * objeto desta classe nao deve ser usado por mais de uma thread.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TextFileFollower implements Closeable
+{
+    // intervalo maximo entre verificacoes do arquivo, em milissegundos
+    private static final long POLL_MILLIS = 250;
+    // tamanho do buffer de leitura em bytes
+    private static final int BUFFER_SIZE = 1 << 16;
+    
+    private final Path path;
+    private final Charset charset;
+    private final IoMetricsRecorder metrics;
+    private final ByteBuffer buffer;
+    private final ArrayDeque<Line> ready;
+    
+    // canal do arquivo sendo lido e sua chave no sistema de arquivos
+    private FileChannel channel;
+    private Object fileKey;
+    // incrementado a cada arquivo aberto, identifica de qual arquivo veio 
+    // cada linha da fila
+    private int generation;
+    // posicao do inicio da proxima linha a ser entregue
+    private long offset;
+    // posicao ate onde o arquivo jah foi lido
+    private long readPos;
+    // bytes da linha incompleta lida ate agora
+    private byte[] partial;
+    private int partialLength;
+    
+    private WatchService watcher;
+    private boolean closed;
+    
+    /*
+     * Uma linha pronta para ser entregue, com a posicao do fim da linha e o 
+     * arquivo de onde ela foi lida. offset so avanca quando a linha eh 
+     * entregue.
+     */
+    private static final class Line
+    {
+        final String text;
+        final long end;
+        final int generation;
+        
+        Line(String text, long end, int generation)
+        {
+            this.text = text;
+            this.end = end;
+            this.generation = generation;
+        }
+    }//fim da classe Line
+    
+    /*[01]----------------------------------------------------------------------
+    *                        Construtor da classe
+    *-------------------------------------------------------------------------*/
+    TextFileFollower(File file, long startOffset, IoMetricsRecorder metrics)
+        throws IOException
+    {
+        path = file.toPath().toAbsolutePath();
+        charset = Charset.defaultCharset();
+        this.metrics = metrics;
+        buffer = ByteBuffer.allocate(BUFFER_SIZE);
+        ready = new ArrayDeque<>();
+        partial = new byte[256];
+        
+        try
+        {
+            watcher = path.getFileSystem().newWatchService();
+            path.getParent().register
+            (
+                watcher,
+                StandardWatchEventKinds.ENTRY_CREATE,
+                StandardWatchEventKinds.ENTRY_MODIFY,
+                StandardWatchEventKinds.ENTRY_DELETE
+            );
+        }
+        catch (IOException | UnsupportedOperationException e)
+        {
+            // sem notificacoes: o arquivo eh apenas verificado periodicamente
+            if (watcher != null) watcher.close();
+            watcher = null;
+        }
+        
+        if (openChannel())
+        {
+            offset = (startOffset < 0) ? channel.size() 
+                                       : Math.min(startOffset, channel.size());
+            readPos = offset;
+        }
+    }//fim de TextFileFollower()
+    
+    /*[02]----------------------------------------------------------------------
+    *     Abre o canal do arquivo. Retorna false se o arquivo nao existir.
+    *-------------------------------------------------------------------------*/
+    private boolean openChannel()
+        throws IOException
+    {
+        try
+        {
+            channel = FileChannel.open(path, StandardOpenOption.READ);
+        }
+        catch (NoSuchFileException e)
+        {
+            channel = null;
+            return false;
+        }
+        fileKey = currentKey();
+        generation++;
+        readPos = 0;
+        partialLength = 0;
+        return true;
+    }//fim de openChannel()
+    
+    /*[03]----------------------------------------------------------------------
+    *   Retorna a chave do arquivo que estah agora no caminho, ou null se o 
+    *   arquivo nao existir ou o sistema de arquivos nao fornecer chaves.
+    *-------------------------------------------------------------------------*/
+    private Object currentKey()
+    {
+        try
+        {
+            return Files.readAttributes(path, BasicFileAttributes.class)
+                        .fileKey();
+        }
+        catch (IOException e)
+        {
+            return null;
+        }
+    }//fim de currentKey()
+    
+    /*[04]----------------------------------------------------------------------
+    *   Le os bytes acrescentados ao arquivo, tratando truncamento e rotacao,
+    *   e coloca as proximas linhas completas na fila de linhas prontas.
+    *-------------------------------------------------------------------------*/
+    private void readAvailable()
+        throws IOException
+    {
+        if (channel == null)
+        {
+            if (!openChannel()) return;
+            offset = 0;
+        }
+        else
+        {
+            Object key = currentKey();
+            if (key != null && fileKey != null && !key.equals(fileKey))
+            {
+                // rotacao: termina de ler o arquivo antigo e passa ao novo.
+                // Se ainda houver linhas no antigo, elas sao entregues antes
+                // e a troca fica para uma proxima chamada.
+                if (!drainChannel()) return;
+                if (partialLength > 0) emitLine(partialLength);
+                channel.close();
+                boolean opened = openChannel();
+                // sem linhas do arquivo antigo a entregar, a proxima linha 
+                // eh a primeira do arquivo novo
+                if (ready.isEmpty()) offset = 0;
+                if (!opened) return;
+            }
+            else if (channel.size() < readPos)
+            {
+                // truncamento: recomeca do inicio
+                offset = 0;
+                readPos = 0;
+                partialLength = 0;
+            }
+        }
+        
+        drainChannel();
+    }//fim de readAvailable()
+    
+    /*[05]----------------------------------------------------------------------
+    *   Le o canal a partir de readPos, separando as linhas, ate completar ao
+    *   menos uma linha ou alcancar o fim. Assim a fila guarda no maximo as 
+    *   linhas de um buffer, mesmo com um arquivo grande a ler. Retorna true
+    *   se alcancou o fim do arquivo.
+    *-------------------------------------------------------------------------*/
+    private boolean drainChannel()
+        throws IOException
+    {
+        while (true)
+        {
+            buffer.clear();
+            int n = channel.read(buffer, readPos);
+            if (n <= 0) return true;
+            
+            byte[] a = buffer.array();
+            int start = 0;
+            for (int i = 0; i < n; i++)
+            {
+                if (a[i] != '\n') continue;
+                
+                appendPartial(a, start, i - start);
+                readPos += i - start + 1;
+                emitLine(partialLength);
+                start = i + 1;
+            }
+            appendPartial(a, start, n - start);
+            readPos += n - start;
+            
+            if (!ready.isEmpty()) return readPos >= channel.size();
+        }
+    }//fim de drainChannel()
+    
+    /*[06]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private void appendPartial(byte[] a, int from, int len)
+    {
+        if (partialLength + len > partial.length)
+            partial = Arrays.copyOf
+                      (
+                          partial, Math.max(partial.length * 2, 
+                                            partialLength + len)
+                      );
+        System.arraycopy(a, from, partial, partialLength, len);
+        partialLength += len;
+    }//fim de appendPartial()
+    
+    /*[07]----------------------------------------------------------------------
+    *   Decodifica a linha em partial e a coloca na fila, junto com readPos,
+    *   o inicio da proxima linha.
+    *-------------------------------------------------------------------------*/
+    private void emitLine(int len)
+    {
+        long t = metrics.start();
+        int bytes = len;
+        if (len > 0 && partial[len - 1] == '\r') len--;
+        String line = new String(partial, 0, len, charset);
+        ready.add(new Line(line, readPos, generation));
+        partialLength = 0;
+        metrics.record(IoOperation.READLN, t, bytes, path.toString());
+    }//fim de emitLine()
+    
+    /*[08]----------------------------------------------------------------------
+    *                Retorna a proxima linha, sem esperar
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna a proxima linha jah gravada no arquivo, sem esperar.
+     * 
+     * @return A proxima linha, ou null se nao houver linha completa nova.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    public String poll()
+        throws IOException
+    {
+        if (closed) return null;
+        if (ready.isEmpty()) readAvailable();
+        
+        Line line = ready.poll();
+        if (line == null) return null;
+        
+        offset = line.end;
+        // ultima linha de um arquivo que jah foi substituido: a proxima 
+        // linha eh a primeira do arquivo novo
+        Line next = ready.peek();
+        if (line.generation != generation &&
+            (next == null || next.generation != line.generation)) offset = 0;
+        
+        return line.text;
+    }//fim de poll()
+    
+    /*[09]----------------------------------------------------------------------
+    *     Retorna a proxima linha, esperando ate que ela seja gravada
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna a proxima linha do arquivo, esperando no maximo o tempo 
+     * indicado ate que ela seja gravada.
+     * 
+     * @param timeout O tempo maximo de espera.
+     * @param unit A unidade de timeout.
+     * 
+     * @return A proxima linha, ou null se nenhuma linha nova for gravada no
+     * tempo indicado ou se o leitor estiver fechado.
+     * 
+     * @throws IOException Erro de IO.
+     * @throws InterruptedIOException Se a thread for interrompida durante a
+     * espera.
+     * 
+     * @since 1.0
+     */
+    public String nextLine(long timeout, TimeUnit unit)
+        throws IOException
+    {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        
+        while (!closed)
+        {
+            String line = poll();
+            if (line != null) return line;
+            
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) return null;
+            
+            long wait = Math.min
+                        (
+                            TimeUnit.NANOSECONDS.toMillis(remaining) + 1, 
+                            POLL_MILLIS
+                        );
+            try
+            {
+                awaitChange(wait);
+            }
+            catch (InterruptedException e)
+            {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("Espera interrompida");
+            }
+        }
+        return null;
+    }//fim de nextLine()
+    
+    /*[10]----------------------------------------------------------------------
+    *   Espera uma notificacao de mudanca no diretorio do arquivo, ou apenas
+    *   o tempo indicado se nao houver WatchService.
+    *-------------------------------------------------------------------------*/
+    private void awaitChange(long millis)
+        throws InterruptedException
+    {
+        if (watcher == null)
+        {
+            Thread.sleep(millis);
+            return;
+        }
+        
+        try
+        {
+            WatchKey key = watcher.poll(millis, TimeUnit.MILLISECONDS);
+            // os eventos sao descartados: qualquer mudanca no diretorio leva
+            // a uma nova verificacao do arquivo
+            while (key != null)
+            {
+                key.pollEvents();
+                key.reset();
+                key = watcher.poll();
+            }
+        }
+        catch (ClosedWatchServiceException e)
+        {
+            watcher = null;
+        }
+    }//fim de awaitChange()
+    
+    /*[11]----------------------------------------------------------------------
+    *         Retorna a posicao do inicio da proxima linha a ser entregue
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna a posicao em bytes, no arquivo sendo lido, do inicio da proxima
+     * linha a ser entregue. Este valor pode ser guardado e passado a 
+     * {@link TextFile#follow(long)} para retomar a leitura deste ponto.
+     * 
+     * @return A posicao em bytes.
+     * 
+     * @since 1.0
+     */
+    public long offset()
+    {
+        return offset;
+    }//fim de offset()
+    
+    /*[12]----------------------------------------------------------------------
+    *                          Fecha o leitor
+    *-------------------------------------------------------------------------*/
+    /**
+     * Fecha o leitor e libera o arquivo e o WatchService.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    @Override
+    public void close()
+        throws IOException
+    {
+        if (closed) return;
+        
+        closed = true;
+        ready.clear();
+        if (watcher != null) watcher.close();
+        if (channel != null) channel.close();
+    }//fim de close()
+    
+}//fim da classe TextFileFollower
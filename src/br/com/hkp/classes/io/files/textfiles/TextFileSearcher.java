@@ -0,0 +1,439 @@
+/*
+arquivo TextFileSearcher.java criado a partir de 19 de outubro de 2026
+*/
+package br.com.hkp.classes.io.files.textfiles;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+/**
+ * Busca das linhas de um arquivo texto que contem um literal, sem ler o 
+ * arquivo linha a linha.
+ * <p>
+ * O arquivo eh mapeado em memoria e o literal, codificado com o charset 
+ * padrao, eh procurado diretamente nos bytes com o algoritmo de 
+ * Boyer-Moore-Horspool. Apenas as linhas que contem o literal sao 
+ * decodificadas em String. O arquivo pode ser dividido em trechos, 
+ * alinhados ao inicio das linhas, buscados em paralelo.
+ * <p>
+ * Como em {@link TextFileFollower}, as linhas sao separadas por '\n', com um
+ * '\r' anterior removido, e o charset padrao deve ser compativel com ASCII,
+ * como UTF-8 ou ISO-8859-1.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TextFileSearcher
+{
+    // limites do tamanho dos trechos buscados por uma thread
+    private static final long MIN_CHUNK = 1L << 20;
+    private static final long MAX_CHUNK = 1L << 28;
+    
+    /*
+     * Resultado da busca em um trecho: as linhas encontradas, com numero de
+     * linha relativo ao inicio do trecho, e quantas linhas o trecho tem.
+     */
+    private static final class ChunkResult
+    {
+        final List<LineMatch> matches = new ArrayList<>();
+        long newlines;
+    }//fim da classe ChunkResult
+    
+    /*[01]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private TextFileSearcher()
+    {
+    }//fim de TextFileSearcher()
+    
+    /*[02]----------------------------------------------------------------------
+    *              Busca as linhas que contem o literal, em uma thread
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna as linhas do arquivo que contem o literal, na ordem do arquivo.
+     * Equivale a {@code search(tf, literal, 1)}.
+     * 
+     * @param tf O arquivo. Nao precisa estar aberto, mas nao deve estar 
+     * aberto para gravacao com dados ainda no buffer.
+     * @param literal O texto procurado. Nao pode ser vazio.
+     * 
+     * @return As linhas encontradas.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    public static List<LineMatch> search(TextFile tf, String literal)
+        throws IOException
+    {
+        return search(tf, literal, 1);
+    }//fim de search()
+    
+    /*[03]----------------------------------------------------------------------
+    *         Busca as linhas que contem o literal, em varias threads
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna as linhas do arquivo que contem o literal, na ordem do arquivo,
+     * buscando trechos do arquivo em paralelo.
+     * 
+     * @param tf O arquivo. Nao precisa estar aberto, mas nao deve estar 
+     * aberto para gravacao com dados ainda no buffer.
+     * @param literal O texto procurado. Nao pode ser vazio.
+     * @param parallelism Quantas threads fazem a busca.
+     * 
+     * @return As linhas encontradas.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    public static List<LineMatch> search
+    (
+        TextFile tf, 
+        String literal, 
+        int parallelism
+    )
+        throws IOException
+    {
+        return search(tf, literal, parallelism, true);
+    }//fim de search()
+    
+    /*[04]----------------------------------------------------------------------
+    *   Busca as linhas que contem o literal, com ou sem numeros de linha
+    *-------------------------------------------------------------------------*/
+    /**
+     * Retorna as linhas do arquivo que contem o literal, na ordem do arquivo,
+     * buscando trechos do arquivo em paralelo.
+     * <p>
+     * Para numerar as linhas todos os bytes do arquivo precisam ser lidos, 
+     * para contar os '\n'. Se lineNumbers for false esta contagem nao eh 
+     * feita: as linhas sao identificadas apenas pela posicao em bytes e a 
+     * busca le somente os bytes examinados pelo algoritmo e as linhas 
+     * encontradas.
+     * 
+     * @param tf O arquivo. Nao precisa estar aberto, mas nao deve estar 
+     * aberto para gravacao com dados ainda no buffer.
+     * @param literal O texto procurado. Nao pode ser vazio.
+     * @param parallelism Quantas threads fazem a busca.
+     * @param lineNumbers Se false, {@link LineMatch#lineNumber()} retorna -1
+     * nas linhas encontradas.
+     * 
+     * @return As linhas encontradas.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    public static List<LineMatch> search
+    (
+        TextFile tf, 
+        String literal, 
+        int parallelism,
+        boolean lineNumbers
+    )
+        throws IOException
+    {
+        if (literal.isEmpty())
+            throw new IllegalArgumentException("literal vazio");
+        if (parallelism < 1)
+            throw new IllegalArgumentException
+                      (
+                          "parallelism deve ser positivo: " + parallelism
+                      );
+        
+        Charset charset = Charset.defaultCharset();
+        byte[] pattern = literal.getBytes(charset);
+        int[] shift = shiftTable(pattern);
+        
+        try 
+        (
+            FileChannel channel = FileChannel.open
+                                  (
+                                      tf.getFile().toPath(), 
+                                      StandardOpenOption.READ
+                                  )
+        )
+        {
+            long[] bounds = chunkBounds(channel, parallelism);
+            int chunks = bounds.length - 1;
+            List<ChunkResult> results = new ArrayList<>();
+            
+            if (parallelism == 1 || chunks == 1)
+            {
+                for (int i = 0; i < chunks; i++)
+                    results.add
+                    (
+                        searchChunk
+                        (
+                            channel, bounds[i], bounds[i + 1], pattern, shift,
+                            charset, lineNumbers
+                        )
+                    );
+            }
+            else
+            {
+                ExecutorService pool = Executors.newFixedThreadPool
+                                       (
+                                           Math.min(parallelism, chunks)
+                                       );
+                try
+                {
+                    List<Future<ChunkResult>> tasks = new ArrayList<>();
+                    for (int i = 0; i < chunks; i++)
+                    {
+                        long from = bounds[i];
+                        long to = bounds[i + 1];
+                        tasks.add
+                        (
+                            pool.submit
+                            (
+                                () -> searchChunk
+                                      (
+                                          channel, from, to, pattern, shift,
+                                          charset, lineNumbers
+                                      )
+                            )
+                        );
+                    }
+                    for (Future<ChunkResult> t : tasks) results.add(await(t));
+                }
+                finally
+                {
+                    pool.shutdownNow();
+                }
+            }
+            
+            List<LineMatch> matches = new ArrayList<>();
+            if (!lineNumbers)
+            {
+                for (ChunkResult r : results) matches.addAll(r.matches);
+                return matches;
+            }
+            
+            // converte os numeros de linha relativos em absolutos
+            long base = 1;
+            for (ChunkResult r : results)
+            {
+                for (LineMatch m : r.matches)
+                    matches.add
+                    (
+                        new LineMatch
+                        (
+                            base + m.lineNumber(), m.byteOffset(), m.line()
+                        )
+                    );
+                base += r.newlines;
+            }
+            return matches;
+        }
+    }//fim de search()
+    
+    /*[05]----------------------------------------------------------------------
+    *   Tabela de deslocamentos de Boyer-Moore-Horspool: para cada valor de 
+    *   byte, quanto avancar quando ele eh o ultimo byte da janela e a 
+    *   janela nao coincide com o padrao.
+    *-------------------------------------------------------------------------*/
+    private static int[] shiftTable(byte[] pattern)
+    {
+        int m = pattern.length;
+        int[] shift = new int[256];
+        Arrays.fill(shift, m);
+        for (int i = 0; i < m - 1; i++) shift[pattern[i] & 0xff] = m - 1 - i;
+        return shift;
+    }//fim de shiftTable()
+    
+    /*[06]----------------------------------------------------------------------
+    *   Divide o arquivo em trechos. Cada limite eh movido para o inicio da 
+    *   linha seguinte, de modo que cada linha fica inteira em um trecho.
+    *-------------------------------------------------------------------------*/
+    private static long[] chunkBounds(FileChannel channel, int parallelism)
+        throws IOException
+    {
+        long size = channel.size();
+        long chunk = Math.max
+                     (
+                         MIN_CHUNK, 
+                         Math.min(MAX_CHUNK, size / (4L * parallelism))
+                     );
+        
+        List<Long> bounds = new ArrayList<>();
+        bounds.add(0L);
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 13);
+        long pos = chunk;
+        while (pos < size)
+        {
+            // procura o primeiro '\n' a partir de pos - 1
+            long p = pos - 1;
+            long next = size;
+            search:
+            while (p < size)
+            {
+                buffer.clear();
+                int n = channel.read(buffer, p);
+                if (n <= 0) break;
+                for (int i = 0; i < n; i++)
+                {
+                    if (buffer.get(i) == '\n')
+                    {
+                        next = p + i + 1;
+                        break search;
+                    }
+                }
+                p += n;
+            }
+            
+            if (next >= size) break;
+            bounds.add(next);
+            pos = next + chunk;
+        }
+        bounds.add(size);
+        
+        long[] result = new long[bounds.size()];
+        for (int i = 0; i < result.length; i++) result[i] = bounds.get(i);
+        return result;
+    }//fim de chunkBounds()
+    
+    /*[07]----------------------------------------------------------------------
+    *   Busca o padrao no trecho [from, to) do arquivo. Os numeros de linha 
+    *   das linhas encontradas sao relativos ao inicio do trecho, a partir de
+    *   0, ou -1 se countLines for false.
+    *-------------------------------------------------------------------------*/
+    private static ChunkResult searchChunk
+    (
+        FileChannel channel,
+        long from,
+        long to,
+        byte[] pattern,
+        int[] shift,
+        Charset charset,
+        boolean countLines
+    )
+        throws IOException
+    {
+        ChunkResult result = new ChunkResult();
+        long length = to - from;
+        if (length == 0) return result;
+        if (length > Integer.MAX_VALUE)
+            throw new IOException("linha maior que 2 GiB no arquivo");
+        
+        MappedByteBuffer buf = channel.map
+                               (
+                                   FileChannel.MapMode.READ_ONLY, from, length
+                               );
+        int n = (int)length;
+        int m = pattern.length;
+        byte last = pattern[m - 1];
+        
+        // linhas contadas ate a posicao counted
+        long line = countLines ? 0 : -1;
+        int counted = 0;
+        
+        int pos = 0;
+        while (pos <= n - m)
+        {
+            byte b = buf.get(pos + m - 1);
+            if (b == last && matchesAt(buf, pos, pattern))
+            {
+                int start = pos;
+                while (start > 0 && buf.get(start - 1) != '\n') start--;
+                int end = pos + m;
+                while (end < n && buf.get(end) != '\n') end++;
+                
+                if (countLines)
+                {
+                    line += countNewlines(buf, counted, start);
+                    counted = start;
+                }
+                
+                int textEnd = end;
+                if (textEnd > start && buf.get(textEnd - 1) == '\r') textEnd--;
+                byte[] text = new byte[textEnd - start];
+                buf.get(start, text);
+                
+                result.matches.add
+                (
+                    new LineMatch(line, from + start, new String(text, charset))
+                );
+                
+                // uma linha eh entregue uma unica vez
+                pos = end + 1;
+            }
+            else
+                pos += shift[b & 0xff];
+        }
+        
+        if (countLines) result.newlines = line + countNewlines(buf, counted, n);
+        return result;
+    }//fim de searchChunk()
+    
+    /*[08]----------------------------------------------------------------------
+    *   Compara o padrao com os bytes a partir de pos, do penultimo byte do 
+    *   padrao para o primeiro. O ultimo jah foi comparado.
+    *-------------------------------------------------------------------------*/
+    private static boolean matchesAt(ByteBuffer buf, int pos, byte[] pattern)
+    {
+        for (int i = pattern.length - 2; i >= 0; i--)
+            if (buf.get(pos + i) != pattern[i]) return false;
+        return true;
+    }//fim de matchesAt()
+    
+    /*[09]----------------------------------------------------------------------
+    *   Conta os '\n' em [from, to), lendo 8 bytes por vez. Em cada long, os 
+    *   bytes iguais a '\n' viram 0 com o xor e sao marcados no bit mais alto
+    *   do byte, sem falsos positivos, e os bits marcados sao contados.
+    *-------------------------------------------------------------------------*/
+    private static long countNewlines(ByteBuffer buf, int from, int to)
+    {
+        final long NEWLINES = 0x0A0A0A0A0A0A0A0AL;
+        final long LOW7 = 0x7F7F7F7F7F7F7F7FL;
+        
+        long count = 0;
+        int i = from;
+        for (; i + Long.BYTES <= to; i += Long.BYTES)
+        {
+            long x = buf.getLong(i) ^ NEWLINES;
+            long zeros = ~(((x & LOW7) + LOW7) | x | LOW7);
+            count += Long.bitCount(zeros);
+        }
+        for (; i < to; i++) if (buf.get(i) == '\n') count++;
+        return count;
+    }//fim de countNewlines()
+    
+    /*[10]----------------------------------------------------------------------
+    *   Espera o termino de uma tarefa, relancando a excecao que ela lancou
+    *-------------------------------------------------------------------------*/
+    private static <T> T await(Future<T> task)
+        throws IOException
+    {
+        try
+        {
+            return task.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Busca interrompida");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException)c;
+            if (c instanceof RuntimeException) throw (RuntimeException)c;
+            throw new IOException(c);
+        }
+    }//fim de await()
+    
+}//fim da classe TextFileSearcher
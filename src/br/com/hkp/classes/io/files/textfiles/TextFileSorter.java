@@ -0,0 +1,397 @@
+/*
+arquivo TextFileSorter.java criado a partir de 19 de outubro de 2026
+*/
+package br.com.hkp.classes.io.files.textfiles;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.InterruptedIOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Ordenacao externa das linhas de um arquivo texto, para arquivos que nao 
+ * cabem na memoria.
+ * <p>
+ * O arquivo eh lido sequencialmente e dividido em trechos de linhas que 
+ * cabem no limite de memoria. Cada trecho eh ordenado e gravado em um 
+ * arquivo temporario (uma corrida) por uma thread de um pool, enquanto o 
+ * trecho seguinte eh lido. As corridas sao entao intercaladas com um heap no
+ * arquivo de saida. A ordenacao eh estavel. As linhas de saida sao separadas
+ * pelo separador de linhas do sistema e os arquivos sao lidos e gravados com
+ * o charset padrao, como em TextFile.
+ * 
+ * @author Hugo Kaulino Pereira
+ * @version 1.0
+ * @since 1.0
+ */
+public final class TextFileSorter
+{
+    // numero maximo de corridas intercaladas de uma vez
+    private static final int MAX_FAN_IN = 256;
+    // memoria estimada, alem dos caracteres, de cada linha na memoria
+    private static final int LINE_OVERHEAD = 64;
+    // limites do buffer de leitura de cada corrida na intercalacao
+    private static final int MIN_MERGE_BUFFER = 1 << 13;
+    private static final int MAX_MERGE_BUFFER = 1 << 20;
+    
+    /*
+     * Leitor sequencial de uma corrida durante a intercalacao.
+     */
+    private static final class RunReader
+    {
+        final int index;
+        final BufferedReader in;
+        String head;
+        
+        RunReader(int index, BufferedReader in)
+        {
+            this.index = index;
+            this.in = in;
+        }
+    }//fim da classe RunReader
+    
+    /*[01]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private TextFileSorter()
+    {
+    }//fim de TextFileSorter()
+    
+    /*[02]----------------------------------------------------------------------
+    *                  Ordena as linhas de um arquivo texto
+    *-------------------------------------------------------------------------*/
+    /**
+     * Ordena as linhas do arquivo in, gravando-as em ordem no arquivo out. O
+     * arquivo in nao eh alterado e nao deve estar aberto para gravacao. Se 
+     * out jah existir serah sobrescrito, e portanto nao deve estar aberto. 
+     * Os arquivos temporarios sao criados no diretorio de out.
+     * 
+     * @param in O arquivo a ser ordenado.
+     * @param out O arquivo ordenado.
+     * @param comparator O comparador que define a ordem das linhas.
+     * @param memoryBudget O limite aproximado, em bytes, de memoria usada 
+     * pelas linhas durante a ordenacao.
+     * @param parallelism Quantos trechos sao ordenados em paralelo.
+     * 
+     * @return Quantas linhas foram gravadas em out.
+     * 
+     * @throws IOException Erro de IO.
+     * 
+     * @since 1.0
+     */
+    public static long sort
+    (
+        TextFile in, 
+        TextFile out, 
+        Comparator<? super String> comparator,
+        long memoryBudget,
+        int parallelism
+    )
+        throws IOException
+    {
+        if (parallelism < 1)
+            throw new IllegalArgumentException
+                      (
+                          "parallelism deve ser positivo: " + parallelism
+                      );
+        
+        // o trecho sendo lido e os trechos sendo ordenados dividem a memoria
+        long chunkBudget = Math.max(1, memoryBudget / (parallelism + 1));
+        File dir = out.getFile().getAbsoluteFile().getParentFile();
+        
+        List<File> runs = new ArrayList<>();
+        List<File> temps = new ArrayList<>();
+        try
+        {
+            createRuns
+            (
+                in.getFile(), dir, comparator, chunkBudget, parallelism, runs
+            );
+            
+            while (runs.size() > MAX_FAN_IN)
+            {
+                List<File> merged = new ArrayList<>();
+                for (int i = 0; i < runs.size(); i += MAX_FAN_IN)
+                {
+                    File run = Files.createTempFile
+                               (
+                                   dir.toPath(), "sort-run", ".tmp"
+                               ).toFile();
+                    temps.add(run);
+                    merged.add(run);
+                    merge
+                    (
+                        runs.subList(i, Math.min(i + MAX_FAN_IN, runs.size())),
+                        run, comparator, memoryBudget
+                    );
+                }
+                deleteAll(runs);
+                runs = merged;
+            }
+            
+            return merge(runs, out.getFile(), comparator, memoryBudget);
+        }
+        finally
+        {
+            temps.addAll(runs);
+            deleteAll(temps);
+        }
+    }//fim de sort()
+    
+    /*[03]----------------------------------------------------------------------
+    *   Le o arquivo em trechos de ate chunkBudget bytes estimados e entrega 
+    *   cada trecho a uma thread do pool que o ordena e grava em uma corrida.
+    *   Um semaforo limita os trechos na memoria a parallelism.
+    *-------------------------------------------------------------------------*/
+    private static void createRuns
+    (
+        File in,
+        File dir,
+        Comparator<? super String> comparator,
+        long chunkBudget,
+        int parallelism,
+        List<File> runs
+    )
+        throws IOException
+    {
+        ExecutorService pool = Executors.newFixedThreadPool(parallelism);
+        Semaphore slots = new Semaphore(parallelism);
+        List<Future<?>> tasks = new ArrayList<>();
+        
+        try (BufferedReader reader = newReader(in, 1 << 16))
+        {
+            String line = reader.readLine();
+            while (line != null)
+            {
+                List<String> chunk = new ArrayList<>();
+                long size = 0;
+                while (line != null && (chunk.isEmpty() || size < chunkBudget))
+                {
+                    chunk.add(line);
+                    size += 2L * line.length() + LINE_OVERHEAD;
+                    line = reader.readLine();
+                }
+                
+                File run = Files.createTempFile
+                           (
+                               dir.toPath(), "sort-run", ".tmp"
+                           ).toFile();
+                runs.add(run);
+                
+                acquire(slots);
+                tasks.add
+                (
+                    pool.submit
+                    (
+                        () -> 
+                        {
+                            try
+                            {
+                                // Collections.sort eh estavel
+                                Collections.sort(chunk, comparator);
+                                try (Writer w = newWriter(run, 1 << 16))
+                                {
+                                    writeLines(w, chunk);
+                                }
+                                return null;
+                            }
+                            finally
+                            {
+                                slots.release();
+                            }
+                        }
+                    )
+                );
+            }
+            
+            for (Future<?> t : tasks) await(t);
+        }
+        finally
+        {
+            pool.shutdownNow();
+        }
+    }//fim de createRuns()
+    
+    /*[04]----------------------------------------------------------------------
+    *    Intercala as corridas no arquivo out e retorna o numero de linhas
+    *-------------------------------------------------------------------------*/
+    private static long merge
+    (
+        List<File> runs,
+        File out,
+        Comparator<? super String> comparator,
+        long memoryBudget
+    )
+        throws IOException
+    {
+        int bufferSize = (int)Math.max
+                         (
+                             MIN_MERGE_BUFFER,
+                             Math.min
+                             (
+                                 MAX_MERGE_BUFFER, 
+                                 memoryBudget / (runs.size() + 1)
+                             )
+                         );
+        
+        // em caso de empate vence a corrida de menor indice, que contem 
+        // linhas anteriores no arquivo original
+        PriorityQueue<RunReader> heap = new PriorityQueue<>
+        (
+            Math.max(1, runs.size()),
+            (a, b) -> 
+            {
+                int c = comparator.compare(a.head, b.head);
+                return (c != 0) ? c : Integer.compare(a.index, b.index);
+            }
+        );
+        
+        List<RunReader> readers = new ArrayList<>();
+        long written = 0;
+        
+        try (Writer w = newWriter(out, bufferSize))
+        {
+            for (int i = 0; i < runs.size(); i++)
+            {
+                RunReader r = new RunReader
+                              (
+                                  i, newReader(runs.get(i), bufferSize)
+                              );
+                readers.add(r);
+                r.head = r.in.readLine();
+                if (r.head != null) heap.add(r);
+            }
+            
+            String separator = System.lineSeparator();
+            while (!heap.isEmpty())
+            {
+                RunReader r = heap.poll();
+                w.write(r.head);
+                w.write(separator);
+                written++;
+                r.head = r.in.readLine();
+                if (r.head != null) heap.add(r);
+            }
+        }
+        finally
+        {
+            for (RunReader r : readers) r.in.close();
+        }
+        
+        return written;
+    }//fim de merge()
+    
+    /*[05]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private static void writeLines(Writer w, List<String> lines)
+        throws IOException
+    {
+        String separator = System.lineSeparator();
+        for (String s : lines)
+        {
+            w.write(s);
+            w.write(separator);
+        }
+    }//fim de writeLines()
+    
+    /*[06]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private static BufferedReader newReader(File f, int bufferSize)
+        throws IOException
+    {
+        return new BufferedReader
+                   (
+                       new InputStreamReader
+                       (
+                           new FileInputStream(f), Charset.defaultCharset()
+                       ),
+                       bufferSize
+                   );
+    }//fim de newReader()
+    
+    /*[07]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private static Writer newWriter(File f, int bufferSize)
+        throws IOException
+    {
+        return new BufferedWriter
+                   (
+                       new OutputStreamWriter
+                       (
+                           new FileOutputStream(f), Charset.defaultCharset()
+                       ),
+                       bufferSize
+                   );
+    }//fim de newWriter()
+    
+    /*[08]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private static void acquire(Semaphore s)
+        throws IOException
+    {
+        try
+        {
+            s.acquire();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Ordenacao interrompida");
+        }
+    }//fim de acquire()
+    
+    /*[09]----------------------------------------------------------------------
+    *   Espera o termino de uma tarefa, relancando a excecao que ela lancou
+    *-------------------------------------------------------------------------*/
+    private static void await(Future<?> task)
+        throws IOException
+    {
+        try
+        {
+            task.get();
+        }
+        catch (InterruptedException e)
+        {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Ordenacao interrompida");
+        }
+        catch (ExecutionException e)
+        {
+            Throwable c = e.getCause();
+            if (c instanceof IOException) throw (IOException)c;
+            if (c instanceof RuntimeException) throw (RuntimeException)c;
+            throw new IOException(c);
+        }
+    }//fim de await()
+    
+    /*[10]----------------------------------------------------------------------
+    *
+    *-------------------------------------------------------------------------*/
+    private static void deleteAll(List<File> files)
+    {
+        for (File f : files) f.delete();
+    }//fim de deleteAll()
+    
+}//fim da classe TextFileSorter